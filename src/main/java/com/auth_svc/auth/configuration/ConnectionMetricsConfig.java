@@ -0,0 +1,125 @@
+package com.auth_svc.auth.configuration;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records how long each JDBC connection is borrowed from the pool, tagged with the endpoint that
+ * borrowed it (auth.db.connection.hold{method,uri}). Hikari's own usage metric has no endpoint, so
+ * this is what shows which requests keep connections past their repository calls. Compare runs
+ * with spring.jpa.open-in-view=true and false to see the effect of open-session-in-view.
+ */
+@Configuration
+public class ConnectionMetricsConfig {
+    static final String METRIC = "auth.db.connection.hold";
+    // Borrowed on a request thread before the handler was resolved, e.g. in the security filters
+    static final String UNKNOWN_URI = "UNKNOWN";
+    // Borrowed outside a request: schedulers, relays, Kafka listeners
+    static final String NO_REQUEST = "none";
+
+    @Bean
+    static BeanPostProcessor connectionHoldMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof TimedDataSource)) {
+                    return new TimedDataSource(dataSource, meterRegistry);
+                }
+                return bean;
+            }
+        };
+    }
+
+    static class TimedDataSource extends DelegatingDataSource {
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+
+        TimedDataSource(DataSource target, ObjectProvider<MeterRegistry> meterRegistry) {
+            super(target);
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return timed(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return timed(super.getConnection(username, password));
+        }
+
+        private Connection timed(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[] {Connection.class},
+                    new HoldTimer(connection, System.nanoTime()));
+        }
+
+        private class HoldTimer implements InvocationHandler {
+            private final Connection target;
+            private final long borrowedAt;
+            private boolean closed;
+
+            HoldTimer(Connection target, long borrowedAt) {
+                this.target = target;
+                this.borrowedAt = borrowedAt;
+            }
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                if ("close".equals(method.getName()) && !closed) {
+                    closed = true;
+                    record(System.nanoTime() - borrowedAt);
+                }
+                try {
+                    return method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+
+            private void record(long nanos) {
+                MeterRegistry registry = meterRegistry.getIfAvailable();
+                if (registry == null) {
+                    return;
+                }
+                String method = NO_REQUEST;
+                String uri = NO_REQUEST;
+                RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+                if (attributes instanceof ServletRequestAttributes servletAttributes) {
+                    HttpServletRequest request = servletAttributes.getRequest();
+                    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                    method = request.getMethod();
+                    uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+                }
+                Timer.builder(METRIC)
+                        .description("Time a JDBC connection is held, by endpoint")
+                        .tag("method", method)
+                        .tag("uri", uri)
+                        .register(registry)
+                        .record(nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
@@ -1,30 +1,137 @@
 package com.auth_svc.auth.configuration;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.jwt.BadJwtException;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.stereotype.Component;
 
+import com.auth_svc.auth.service.SigningKeyService;
+import com.auth_svc.auth.service.TokenRevocationService;
+import com.auth_svc.auth.service.TokenWatermarkService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Verifies bearer tokens (signature, expiry, revocation, per-user watermark) and caches the decoded
+ * {@link Jwt} by a hash of the token, so repeated requests with the same token skip parsing and
+ * signature checks. Entries never outlive the token's {@code exp}.
+ */
 @Component
 public class CustomJwtDecoder implements JwtDecoder {
+    private final SigningKeyService signingKeyService;
+    private final TokenRevocationService tokenRevocationService;
+    private final TokenWatermarkService tokenWatermarkService;
+    private final Cache<String, Jwt> cache;
+
+    public CustomJwtDecoder(
+            SigningKeyService signingKeyService,
+            TokenRevocationService tokenRevocationService,
+            TokenWatermarkService tokenWatermarkService,
+            MeterRegistry meterRegistry,
+            @Value("${app.jwt.decoder-cache.maximum-size:10000}") long maximumSize,
+            @Value("${app.jwt.decoder-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.signingKeyService = signingKeyService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.tokenWatermarkService = tokenWatermarkService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ExpireAtTokenExpiry(Duration.ofSeconds(ttlSeconds)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.decoder");
+    }
+
     @Override
     public Jwt decode(String token) throws JwtException {
+        String cacheKey = hash(token);
+
+        Jwt jwt = cache.getIfPresent(cacheKey);
+        if (jwt == null) {
+            jwt = verify(token);
+            cache.put(cacheKey, jwt);
+        } else if (!jwt.getExpiresAt().isAfter(Instant.now())) {
+            cache.invalidate(cacheKey);
+            throw new JwtException("Invalid token");
+        }
+
+        if (tokenRevocationService.isRevoked(jwt.getId())
+                || tokenWatermarkService.isIssuedBeforeWatermark(jwt.getSubject(), Date.from(jwt.getIssuedAt()))) {
+            throw new JwtException("Invalid token");
+        }
+
+        return jwt;
+    }
+
+    private Jwt verify(String token) {
         try {
             SignedJWT signedJWT = SignedJWT.parse(token);
+            JWTClaimsSet claims = signedJWT.getJWTClaimsSet();
+            Date issueTime = claims.getIssueTime();
+            Date expirationTime = claims.getExpirationTime();
+
+            if (!signingKeyService.verify(signedJWT) || expirationTime == null || !expirationTime.after(new Date())) {
+                throw new JwtException("Invalid token");
+            }
+            if (issueTime == null) {
+                throw new BadJwtException("Invalid token: missing iat");
+            }
 
             return new Jwt(
                     token,
-                    signedJWT.getJWTClaimsSet().getIssueTime().toInstant(),
-                    signedJWT.getJWTClaimsSet().getExpirationTime().toInstant(),
+                    issueTime.toInstant(),
+                    expirationTime.toInstant(),
                     signedJWT.getHeader().toJSONObject(),
-                    signedJWT.getJWTClaimsSet().getClaims());
+                    claims.getClaims());
 
-        } catch (ParseException e) {
+        } catch (ParseException | JOSEException e) {
             throw new JwtException("Invalid token");
         }
     }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Caps each entry at the configured TTL and at the token's own expiry, whichever comes first
+    private record ExpireAtTokenExpiry(Duration ttl) implements Expiry<String, Jwt> {
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            Duration untilExpiry = Duration.between(Instant.now(), jwt.getExpiresAt());
+            Duration lifetime = untilExpiry.compareTo(ttl) < 0 ? untilExpiry : ttl;
+            return Math.max(0, lifetime.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
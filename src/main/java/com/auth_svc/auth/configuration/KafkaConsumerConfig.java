@@ -0,0 +1,69 @@
+package com.auth_svc.auth.configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import com.auth_svc.event.AvroEventDeserializer;
+import com.auth_svc.event.TokenRevokedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Kafka consumer configuration for the token.revoked broadcast.
+ * Every replica joins with its own group id so that each node receives every event,
+ * and starts from the latest offset because the revocation index is warmed from the database.
+ */
+@Configuration
+public class KafkaConsumerConfig {
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    @Value("${app.revocation.consumer-group-prefix:auth-service-revocation}")
+    private String groupPrefix;
+
+    private final ObjectMapper objectMapper;
+
+    public KafkaConsumerConfig(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Bean
+    public ConsumerFactory<String, TokenRevokedEvent> tokenRevokedConsumerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupPrefix + "-" + UUID.randomUUID());
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        // Ignore producer type headers and never get stuck on a malformed record
+        JsonDeserializer<TokenRevokedEvent> jsonDeserializer =
+                new JsonDeserializer<>(TokenRevokedEvent.class, objectMapper, false);
+
+        // Accepts Avro as well, so app.kafka.avro-topics can include token.revoked during a rolling deploy
+        return new DefaultKafkaConsumerFactory<>(
+                configProps,
+                new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(
+                        new AvroEventDeserializer<>(TokenRevokedEvent.class, jsonDeserializer)));
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, TokenRevokedEvent> tokenRevokedListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, TokenRevokedEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(tokenRevokedConsumerFactory());
+        return factory;
+    }
+}
@@ -1,51 +1,107 @@
 package com.auth_svc.auth.configuration;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.ssl.SslBundles;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.serializer.DelegatingByTopicSerializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
+import com.auth_svc.event.AvroEventSerializer;
+import com.auth_svc.event.KafkaSendMetricsListener;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * Kafka Producer configuration with properly configured ObjectMapper
- * to ensure LocalDateTime is serialized as ISO-8601 strings
+ * to ensure LocalDateTime is serialized as ISO-8601 strings.
+ *
+ * Producer settings come from spring.kafka.producer.*; anything not set there falls back to the
+ * throughput profile in {@link #tuned(Map)}: idempotent delivery, batching and lz4 compression.
+ *
+ * Values are JSON unless their topic is listed in app.kafka.avro-topics, in which case they are
+ * written as Avro single-object records (see {@link AvroEventSerializer}).
  */
 @Configuration
 public class KafkaProducerConfig {
 
-    @Value("${spring.kafka.bootstrap-servers}")
-    private String bootstrapServers;
-
     private final ObjectMapper objectMapper;
+    private final KafkaProperties kafkaProperties;
+    private final ObjectProvider<SslBundles> sslBundles;
+    private final String[] avroTopics;
 
-    public KafkaProducerConfig(ObjectMapper objectMapper) {
+    public KafkaProducerConfig(
+            ObjectMapper objectMapper,
+            KafkaProperties kafkaProperties,
+            ObjectProvider<SslBundles> sslBundles,
+            @Value("${app.kafka.avro-topics:}") String[] avroTopics) {
         this.objectMapper = objectMapper;
+        this.kafkaProperties = kafkaProperties;
+        this.sslBundles = sslBundles;
+        this.avroTopics = avroTopics;
     }
 
     @Bean
-    public ProducerFactory<String, Object> producerFactory() {
-        Map<String, Object> configProps = new HashMap<>();
-        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+    public ProducerFactory<String, Object> producerFactory(MeterRegistry meterRegistry) {
+        Map<String, Object> configProps = tuned(kafkaProperties.buildProducerProperties(sslBundles.getIfAvailable()));
 
         // Create JsonSerializer with custom ObjectMapper
         JsonSerializer<Object> jsonSerializer = new JsonSerializer<>(objectMapper);
 
-        return new DefaultKafkaProducerFactory<>(configProps, new StringSerializer(), jsonSerializer);
+        DefaultKafkaProducerFactory<String, Object> factory =
+                new DefaultKafkaProducerFactory<>(configProps, new StringSerializer(), valueSerializer(jsonSerializer));
+        // Exposes the client's own metrics (batch size, compression rate, request latency, errors)
+        factory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return factory;
     }
 
     @Bean
-    public KafkaTemplate<String, Object> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+    public KafkaTemplate<String, Object> kafkaTemplate(
+            ProducerFactory<String, Object> producerFactory, MeterRegistry meterRegistry) {
+        KafkaTemplate<String, Object> kafkaTemplate = new KafkaTemplate<>(producerFactory);
+        kafkaTemplate.setProducerListener(new KafkaSendMetricsListener(meterRegistry));
+        return kafkaTemplate;
+    }
+
+    private Serializer<Object> valueSerializer(JsonSerializer<Object> jsonSerializer) {
+        if (avroTopics.length == 0) {
+            return jsonSerializer;
+        }
+        AvroEventSerializer avroSerializer = new AvroEventSerializer();
+        Map<Pattern, Serializer<?>> delegates = new LinkedHashMap<>();
+        for (String topic : avroTopics) {
+            delegates.put(Pattern.compile(Pattern.quote(topic.trim())), avroSerializer);
+        }
+        return new DelegatingByTopicSerializer(delegates, jsonSerializer);
+    }
+
+    /**
+     * Throughput profile for user events. Records are keyed by user id, so idempotence with up to
+     * five in-flight requests keeps per-user ordering while batches fill for up to linger.ms.
+     */
+    public static Map<String, Object> tuned(Map<String, Object> configProps) {
+        configProps.putIfAbsent(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.putIfAbsent(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.putIfAbsent(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        configProps.putIfAbsent(ProducerConfig.LINGER_MS_CONFIG, 10);
+        configProps.putIfAbsent(ProducerConfig.BATCH_SIZE_CONFIG, 64 * 1024);
+        configProps.putIfAbsent(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+        // Fail fast when the broker is unreachable; direct sends fall back to the local spool
+        configProps.putIfAbsent(ProducerConfig.MAX_BLOCK_MS_CONFIG, 5000);
+        return configProps;
     }
 }
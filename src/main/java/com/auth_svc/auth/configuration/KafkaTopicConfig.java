@@ -0,0 +1,47 @@
+package com.auth_svc.auth.configuration;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.config.TopicConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+
+import com.auth_svc.event.ChangeEventProducer;
+
+/**
+ * Declares the compacted change-event topics. Kafka keeps at least the latest record per key,
+ * so a new consumer can bootstrap a full replica from offset zero instead of paging our REST APIs.
+ */
+@Configuration
+public class KafkaTopicConfig {
+
+    @Value("${app.kafka.change-topics.partitions:3}")
+    private int partitions;
+
+    @Value("${app.kafka.change-topics.replicas:1}")
+    private int replicas;
+
+    // How long a record stays uncompacted, so consumers that lag a little still see every change
+    @Value("${app.kafka.change-topics.min-compaction-lag-ms:3600000}")
+    private long minCompactionLagMs;
+
+    @Bean
+    public KafkaAdmin.NewTopics changeEventTopics() {
+        return new KafkaAdmin.NewTopics(
+                compacted(ChangeEventProducer.SCHOOL_CHANGES_TOPIC),
+                compacted(ChangeEventProducer.CLASS_CHANGES_TOPIC),
+                compacted(ChangeEventProducer.USER_PROFILE_CHANGES_TOPIC),
+                compacted(ChangeEventProducer.ENROLLMENT_CHANGES_TOPIC));
+    }
+
+    private NewTopic compacted(String name) {
+        return TopicBuilder.name(name)
+                .partitions(partitions)
+                .replicas(replicas)
+                .compact()
+                .config(TopicConfig.MIN_COMPACTION_LAG_MS_CONFIG, String.valueOf(minCompactionLagMs))
+                .build();
+    }
+}
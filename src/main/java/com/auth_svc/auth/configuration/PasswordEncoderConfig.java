@@ -0,0 +1,123 @@
+package com.auth_svc.auth.configuration;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Password encoder with an {@code {id}} prefix on every new hash, so the algorithm and cost can
+ * change without breaking stored hashes. Legacy hashes without a prefix are plain bcrypt.
+ *
+ * <p>Unless a cost is configured, the work factor is calibrated at startup: the highest bcrypt
+ * cost (or Argon2 iteration count) whose verify time stays within
+ * {@code app.password.target-verify-ms} on this machine, never below the configured minimum.
+ * Hashes weaker than the current settings are upgraded on the next successful login. Both bcrypt
+ * and Argon2 hashes are always accepted; {@code app.password.algorithm} only picks the one new
+ * hashes are written with.
+ */
+@Configuration
+@Slf4j
+public class PasswordEncoderConfig {
+    static final String BCRYPT = "bcrypt";
+    static final String ARGON2 = "argon2";
+
+    static final String CALIBRATION_PASSWORD = "calibration-Passw0rd!";
+    static final int CALIBRATION_ROUNDS = 3;
+
+    @Value("${app.password.algorithm:bcrypt}")
+    private String algorithm;
+
+    @Value("${app.password.target-verify-ms:250}")
+    private long targetVerifyMillis;
+
+    // 0 = calibrate at startup
+    @Value("${app.password.bcrypt.cost:0}")
+    private int bcryptCost;
+
+    @Value("${app.password.bcrypt.min-cost:10}")
+    private int bcryptMinCost;
+
+    @Value("${app.password.bcrypt.max-cost:16}")
+    private int bcryptMaxCost;
+
+    // 0 = calibrate at startup
+    @Value("${app.password.argon2.iterations:0}")
+    private int argon2Iterations;
+
+    @Value("${app.password.argon2.memory-kb:19456}")
+    private int argon2MemoryKb;
+
+    @Value("${app.password.argon2.parallelism:1}")
+    private int argon2Parallelism;
+
+    @Bean
+    PasswordEncoder passwordEncoder() {
+        String idForEncode = ARGON2.equalsIgnoreCase(algorithm) ? ARGON2 : BCRYPT;
+
+        int cost = BCRYPT.equals(idForEncode) && bcryptCost <= 0
+                ? calibrate("bcrypt cost", bcryptMinCost, bcryptMaxCost, BCryptPasswordEncoder::new)
+                : Math.max(bcryptCost, bcryptMinCost);
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(cost);
+
+        // Argon2 hashes carry their own parameters, so verifying them never depends on the
+        // iteration count; only calibrate when Argon2 is the algorithm new hashes are written with
+        int iterations = argon2Iterations > 0
+                ? argon2Iterations
+                : ARGON2.equals(idForEncode) ? calibrate("argon2 iterations", 2, 10, this::argon2) : 2;
+
+        // Both delegates are always registered, so stored hashes keep verifying (and get upgraded)
+        // after the algorithm is switched back or while instances run with different settings
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, bcrypt);
+        encoders.put(ARGON2, argon2(iterations));
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(idForEncode, encoders);
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    private PasswordEncoder argon2(int iterations) {
+        return new Argon2PasswordEncoder(16, 32, argon2Parallelism, argon2MemoryKb, iterations);
+    }
+
+    /**
+     * Raises the work factor one step at a time until verification exceeds the target, then
+     * returns the last value that stayed within it.
+     */
+    private int calibrate(String name, int min, int max, IntFunction<PasswordEncoder> factory) {
+        int chosen = min;
+        for (int candidate = min; candidate <= max; candidate++) {
+            long millis = medianVerifyMillis(factory.apply(candidate));
+            log.info("Password hash calibration: {} {} verifies in {} ms", name, candidate, millis);
+            if (millis > targetVerifyMillis) {
+                break;
+            }
+            chosen = candidate;
+        }
+        log.info("Password hash calibration: using {} {} (target {} ms)", name, chosen, targetVerifyMillis);
+        return chosen;
+    }
+
+    private static long medianVerifyMillis(PasswordEncoder encoder) {
+        String hash = encoder.encode(CALIBRATION_PASSWORD);
+        long[] samples = new long[CALIBRATION_ROUNDS];
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long start = System.nanoTime();
+            encoder.matches(CALIBRATION_PASSWORD, hash);
+            samples[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+        Arrays.sort(samples);
+        return samples[CALIBRATION_ROUNDS / 2];
+    }
+}
@@ -1,12 +1,15 @@
 package com.auth_svc.auth.controller;
 
 import java.text.ParseException;
+import java.util.List;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 import org.springframework.web.bind.annotation.*;
 
 import com.auth_svc.auth.dto.request.AuthenticationRequest;
+import com.auth_svc.auth.dto.request.BatchIntrospectRequest;
 import com.auth_svc.auth.dto.request.GoogleAuthRequest;
 import com.auth_svc.auth.dto.request.IntrospectRequest;
 import com.auth_svc.auth.dto.request.LogoutRequest;
@@ -16,6 +19,7 @@ import com.auth_svc.auth.dto.response.AuthenticationResponse;
 import com.auth_svc.auth.dto.response.IntrospectResponse;
 import com.auth_svc.auth.service.AuthenticationService;
 import com.auth_svc.auth.service.GoogleOAuthService;
+import com.auth_svc.auth.service.LoginRateLimiterService;
 import com.nimbusds.jose.JOSEException;
 
 import lombok.AccessLevel;
@@ -29,9 +33,12 @@ import lombok.experimental.FieldDefaults;
 public class AuthenticationController {
     AuthenticationService authenticationService;
     GoogleOAuthService googleOAuthService;
+    LoginRateLimiterService loginRateLimiterService;
 
     @PostMapping("/token")
-    ApiResponse<AuthenticationResponse> authenticate(@Valid @RequestBody AuthenticationRequest request) {
+    ApiResponse<AuthenticationResponse> authenticate(
+            @Valid @RequestBody AuthenticationRequest request, HttpServletRequest httpRequest) {
+        loginRateLimiterService.checkLogin(request.getEmail(), httpRequest.getRemoteAddr());
         var result = authenticationService.authenticate(request);
         return ApiResponse.<AuthenticationResponse>builder().result(result).build();
     }
@@ -48,6 +55,12 @@ public class AuthenticationController {
         return ApiResponse.<IntrospectResponse>builder().result(result).build();
     }
 
+    @PostMapping("/introspect/batch")
+    ApiResponse<List<IntrospectResponse>> introspectBatch(@Valid @RequestBody BatchIntrospectRequest request) {
+        var result = authenticationService.introspectBatch(request);
+        return ApiResponse.<List<IntrospectResponse>>builder().result(result).build();
+    }
+
     @PostMapping("/refresh")
     ApiResponse<AuthenticationResponse> refresh(@RequestBody RefreshRequest request)
             throws ParseException, JOSEException {
@@ -68,7 +81,8 @@ public class AuthenticationController {
     }
 
     @PostMapping("/resend-verification")
-    ApiResponse<Void> resendVerification(@RequestParam String email) {
+    ApiResponse<Void> resendVerification(@RequestParam String email, HttpServletRequest httpRequest) {
+        loginRateLimiterService.checkVerificationResend(email, httpRequest.getRemoteAddr());
         authenticationService.resendVerificationEmail(email);
         return ApiResponse.<Void>builder().message("Verification email sent").build();
     }
@@ -0,0 +1,53 @@
+package com.auth_svc.auth.controller;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.auth_svc.auth.service.SigningKeyService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+
+@RestController
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@Tag(name = "JWKS", description = "Public keys for verifying tokens issued by this service")
+public class JwksController {
+    SigningKeyService signingKeyService;
+
+    @NonFinal
+    @Value("${app.jwks.max-age-seconds:300}")
+    long MAX_AGE_SECONDS;
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "JSON Web Key Set", description = "Returns the public RS256/ES256 signing keys")
+    ResponseEntity<String> getJwks(@RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        var jwkSet = signingKeyService.getPublicJwkSet();
+        CacheControl cacheControl =
+                CacheControl.maxAge(MAX_AGE_SECONDS, TimeUnit.SECONDS).cachePublic();
+
+        if (jwkSet.etag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(jwkSet.etag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(jwkSet.etag())
+                .cacheControl(cacheControl)
+                .body(jwkSet.json());
+    }
+}
@@ -0,0 +1,51 @@
+package com.auth_svc.auth.controller;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import com.auth_svc.auth.dto.response.ApiResponse;
+import com.auth_svc.auth.dto.response.ReplayStatusResponse;
+import com.auth_svc.auth.service.UserReplayService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+@RestController
+@RequestMapping("/replays/user-registered")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Event Replay", description = "APIs for backfilling Kafka consumers")
+public class ReplayController {
+    UserReplayService userReplayService;
+
+    @GetMapping
+    @Operation(summary = "Replay status", description = "Returns progress and rate of the user.registered replay")
+    ApiResponse<ReplayStatusResponse> getStatus() {
+        return ApiResponse.<ReplayStatusResponse>builder()
+                .result(userReplayService.getStatus())
+                .build();
+    }
+
+    @PostMapping
+    @Operation(
+            summary = "Start replay",
+            description = "Publishes user.registered for every user, resuming from the last checkpoint"
+                    + " unless restart is true")
+    ApiResponse<ReplayStatusResponse> start(@RequestParam(defaultValue = "false") boolean restart) {
+        return ApiResponse.<ReplayStatusResponse>builder()
+                .result(userReplayService.start(restart))
+                .build();
+    }
+
+    @PostMapping("/stop")
+    @Operation(summary = "Stop replay", description = "Stops after the current page; starting again resumes")
+    ApiResponse<ReplayStatusResponse> stop() {
+        return ApiResponse.<ReplayStatusResponse>builder()
+                .result(userReplayService.stop())
+                .build();
+    }
+}
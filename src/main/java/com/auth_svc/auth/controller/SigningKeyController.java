@@ -0,0 +1,61 @@
+package com.auth_svc.auth.controller;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import com.auth_svc.auth.dto.request.SigningKeyRequest;
+import com.auth_svc.auth.dto.response.ApiResponse;
+import com.auth_svc.auth.dto.response.SigningKeyResponse;
+import com.auth_svc.auth.service.SigningKeyService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+@RestController
+@RequestMapping("/signing-keys")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Signing Key Management", description = "APIs for rotating JWT signing keys")
+public class SigningKeyController {
+    SigningKeyService signingKeyService;
+
+    @GetMapping
+    @Operation(summary = "List signing keys", description = "Returns every signing key with its rotation status")
+    ApiResponse<List<SigningKeyResponse>> getKeys() {
+        return ApiResponse.<List<SigningKeyResponse>>builder()
+                .result(signingKeyService.getKeys())
+                .build();
+    }
+
+    @PostMapping
+    @Operation(summary = "Add signing key", description = "Adds a key that verifies tokens but does not sign yet")
+    ApiResponse<SigningKeyResponse> addKey(@Valid @RequestBody SigningKeyRequest request) {
+        return ApiResponse.<SigningKeyResponse>builder()
+                .result(signingKeyService.addKey(request))
+                .build();
+    }
+
+    @PostMapping("/{kid}/promote")
+    @Operation(summary = "Promote signing key", description = "Makes the key active and retires the previous one")
+    ApiResponse<SigningKeyResponse> promoteKey(@PathVariable String kid) {
+        return ApiResponse.<SigningKeyResponse>builder()
+                .result(signingKeyService.promoteKey(kid))
+                .build();
+    }
+
+    @PostMapping("/{kid}/retire")
+    @Operation(summary = "Retire signing key", description = "Stops using the key for new tokens")
+    ApiResponse<SigningKeyResponse> retireKey(@PathVariable String kid) {
+        return ApiResponse.<SigningKeyResponse>builder()
+                .result(signingKeyService.retireKey(kid))
+                .build();
+    }
+}
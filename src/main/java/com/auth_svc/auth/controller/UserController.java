@@ -13,6 +13,7 @@ import com.auth_svc.auth.dto.request.UserRequest;
 import com.auth_svc.auth.dto.response.ApiResponse;
 import com.auth_svc.auth.dto.response.PaginatedResponse;
 import com.auth_svc.auth.dto.response.UserResponse;
+import com.auth_svc.auth.service.TokenWatermarkService;
 import com.auth_svc.auth.service.UserService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -30,6 +31,7 @@ import lombok.extern.slf4j.Slf4j;
 @Tag(name = "User Management", description = "APIs for user management")
 public class UserController {
     UserService userService;
+    TokenWatermarkService tokenWatermarkService;
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -87,6 +89,14 @@ public class UserController {
         return ApiResponse.<String>builder().result("User has been deleted").build();
     }
 
+    @PostMapping("/{id}/revoke-sessions")
+    @PreAuthorize("hasRole('ADMIN') or #id == authentication.name")
+    @Operation(summary = "Log out everywhere", description = "Invalidates every token issued to the user before now")
+    ApiResponse<Void> revokeSessions(@PathVariable("id") String id) {
+        tokenWatermarkService.revokeAllSessions(id);
+        return ApiResponse.<Void>builder().message("All sessions revoked").build();
+    }
+
     @PostMapping("/{id}/promote/teacher")
     ApiResponse<UserResponse> promoteToTeacher(@PathVariable("id") String id) {
         return ApiResponse.<UserResponse>builder()
@@ -0,0 +1,18 @@
+package com.auth_svc.auth.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BatchIntrospectRequest {
+    @NotEmpty(message = "INVALID_KEY")
+    List<String> tokens;
+}
@@ -0,0 +1,25 @@
+package com.auth_svc.auth.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SigningKeyRequest {
+    @NotBlank(message = "INVALID_SIGNING_KEY")
+    String kid;
+
+    // HS512, RS256 or ES256; defaults to jwt.signing-algorithm
+    String algorithm;
+
+    // HMAC secret, at least 64 bytes for HS512
+    String secret;
+
+    // Private JWK for RS256/ES256; a key pair is generated when omitted
+    String jwk;
+}
@@ -0,0 +1,26 @@
+package com.auth_svc.auth.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.auth_svc.auth.entity.ReplayCheckpoint;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ReplayStatusResponse {
+    String jobName;
+    ReplayCheckpoint.Status status;
+    long processed;
+    String lastKey;
+    // Events per second of the current run; only known on the instance running it
+    Double eventsPerSecond;
+    LocalDateTime startedAt;
+    LocalDateTime updatedAt;
+    LocalDateTime completedAt;
+    String lastError;
+}
@@ -0,0 +1,22 @@
+package com.auth_svc.auth.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.auth_svc.auth.entity.SigningKey;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SigningKeyResponse {
+    String kid;
+    String algorithm;
+    SigningKey.Status status;
+    LocalDateTime createdAt;
+    LocalDateTime activatedAt;
+    LocalDateTime retiredAt;
+}
@@ -0,0 +1,83 @@
+package com.auth_svc.auth.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Entity
+@Table(
+        name = "email_outbox",
+        indexes = @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+public class EmailOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    String id;
+
+    @Column(name = "email_type", nullable = false, length = 50)
+    @Enumerated(EnumType.STRING)
+    EmailType emailType;
+
+    @Column(name = "recipient", nullable = false)
+    String recipient;
+
+    // Template parameters as a JSON object
+    @Column(name = "params", columnDefinition = "TEXT")
+    String params;
+
+    @Column(name = "status", nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    Status status;
+
+    @Column(name = "attempts", nullable = false)
+    int attempts;
+
+    // Earliest time the row may be (re)claimed; also acts as the lease while a send is in flight
+    @Column(name = "next_attempt_at", nullable = false)
+    LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    LocalDateTime sentAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+        if (status == null) {
+            status = Status.PENDING;
+        }
+    }
+
+    // Each type is rendered from classpath:templates/email/<template>.html
+    @Getter
+    @RequiredArgsConstructor
+    public enum EmailType {
+        VERIFICATION("verification"),
+        SIGN_IN("sign-in");
+
+        private final String template;
+    }
+
+    public enum Status {
+        PENDING,
+        SENT,
+        // Gave up after the maximum number of attempts
+        DEAD
+    }
+}
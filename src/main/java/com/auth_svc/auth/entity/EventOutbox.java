@@ -0,0 +1,62 @@
+package com.auth_svc.auth.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Entity
+@Table(
+        name = "event_outbox",
+        indexes = {
+            @Index(name = "idx_event_outbox_next_attempt", columnList = "next_attempt_at"),
+            @Index(name = "idx_event_outbox_key", columnList = "topic, event_key, id")
+        })
+public class EventOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    Long id;
+
+    @Column(name = "topic", nullable = false, length = 100)
+    String topic;
+
+    // Kafka record key
+    @Column(name = "event_key")
+    String eventKey;
+
+    // Class the payload is read back into, so the record carries the same type header as before
+    @Column(name = "event_type", nullable = false)
+    String eventType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    String payload;
+
+    @Column(name = "attempts", nullable = false)
+    int attempts;
+
+    // Earliest time the row may be (re)claimed; also acts as the lease while a send is in flight
+    @Column(name = "next_attempt_at", nullable = false)
+    LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.auth_svc.auth.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Entity
+@Table(name = "replay_checkpoints")
+public class ReplayCheckpoint {
+    @Id
+    @Column(name = "job_name", length = 100)
+    String jobName;
+
+    // Keyset cursor: every row up to and including this key has been acknowledged by Kafka
+    @Column(name = "last_key")
+    String lastKey;
+
+    @Column(name = "processed", nullable = false)
+    long processed;
+
+    @Column(name = "status", nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    Status status;
+
+    // Instance that runs the job; another instance may take over once updated_at is stale
+    @Column(name = "owner")
+    String owner;
+
+    @Column(name = "started_at")
+    LocalDateTime startedAt;
+
+    @Column(name = "updated_at")
+    LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    LocalDateTime completedAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    String lastError;
+
+    public enum Status {
+        RUNNING,
+        // Stopped by an admin or by a failure; starting again resumes from last_key
+        STOPPED,
+        FAILED,
+        // Starting again replays from the beginning
+        COMPLETED
+    }
+}
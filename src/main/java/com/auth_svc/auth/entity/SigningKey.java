@@ -0,0 +1,55 @@
+package com.auth_svc.auth.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Entity
+@Table(name = "jwt_signing_keys")
+public class SigningKey {
+    @Id
+    @Column(name = "kid", length = 100)
+    String kid;
+
+    @Column(name = "algorithm", nullable = false, length = 20)
+    String algorithm;
+
+    @Column(name = "secret", nullable = false, columnDefinition = "TEXT")
+    String secret;
+
+    @Column(name = "status", nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    Status status;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    LocalDateTime createdAt;
+
+    @Column(name = "activated_at")
+    LocalDateTime activatedAt;
+
+    @Column(name = "retired_at")
+    LocalDateTime retiredAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    public enum Status {
+        // Verifies tokens but is not used for signing yet
+        NEXT,
+        // Signs new tokens
+        ACTIVE,
+        // Only verifies tokens issued before it was retired, until their refresh window closes
+        RETIRED
+    }
+}
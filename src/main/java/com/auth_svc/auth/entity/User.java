@@ -1,5 +1,6 @@
 package com.auth_svc.auth.entity;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Set;
 
@@ -68,6 +69,10 @@ public class User {
     @Column(name = "deleted_at")
     LocalDateTime deletedAt;
 
+    // Tokens issued before this instant are rejected (logout everywhere)
+    @Column(name = "tokens_valid_after")
+    Instant tokensValidAfter;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
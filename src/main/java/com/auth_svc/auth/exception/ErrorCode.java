@@ -30,6 +30,16 @@ public enum ErrorCode {
     EMAIL_NOT_VERIFIED(1018, "Email not verified", HttpStatus.FORBIDDEN),
     INVALID_VERIFICATION_TOKEN(1019, "Invalid or expired verification token", HttpStatus.BAD_REQUEST),
     GOOGLE_AUTH_FAILED(1020, "Google authentication failed", HttpStatus.UNAUTHORIZED),
+    SIGNING_KEY_NOT_FOUND(1022, "Signing key not found", HttpStatus.NOT_FOUND),
+    SIGNING_KEY_ALREADY_EXISTS(1023, "Signing key with this kid already exists", HttpStatus.CONFLICT),
+    INVALID_SIGNING_KEY(1024, "Invalid signing key material", HttpStatus.BAD_REQUEST),
+    ACTIVE_SIGNING_KEY_CANNOT_BE_RETIRED(
+            1025, "Promote another key before retiring the active key", HttpStatus.BAD_REQUEST),
+    UNSUPPORTED_SIGNING_ALGORITHM(1026, "Signing algorithm must be HS512, RS256 or ES256", HttpStatus.BAD_REQUEST),
+    INTROSPECT_BATCH_TOO_LARGE(1027, "Too many tokens in one introspection batch", HttpStatus.BAD_REQUEST),
+    PASSWORD_HASHING_BUSY(1028, "Too many sign-in requests, please retry shortly", HttpStatus.SERVICE_UNAVAILABLE),
+    TOO_MANY_REQUESTS(1029, "Too many attempts, please retry later", HttpStatus.TOO_MANY_REQUESTS),
+    REPLAY_ALREADY_RUNNING(1030, "A replay is already running", HttpStatus.CONFLICT),
     ;
 
     ErrorCode(int code, String message, HttpStatusCode statusCode) {
@@ -0,0 +1,18 @@
+package com.auth_svc.auth.exception;
+
+/**
+ * {@link AppException} for transient overload; the client is told when to retry via Retry-After.
+ */
+public class RetryableAppException extends AppException {
+
+    public RetryableAppException(ErrorCode errorCode, long retryAfterSeconds) {
+        super(errorCode);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    private final long retryAfterSeconds;
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -5,6 +5,7 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -13,39 +14,53 @@ import com.auth_svc.auth.entity.Class;
 
 @Repository
 public interface ClassRepository extends JpaRepository<Class, Integer> {
+    // Every finder fetches school and teacher, which the class response always shows. Both are
+    // to-one joins, so paging still happens in the database: one select plus one count per page.
+    @EntityGraph(attributePaths = {"school", "teacher"})
     @Query("SELECT c FROM Class c WHERE c.school.id = :schoolId AND c.deleted = false")
     List<Class> findBySchoolId(Integer schoolId);
 
+    @EntityGraph(attributePaths = {"school", "teacher"})
     @Query("SELECT c FROM Class c WHERE c.school.id = :schoolId AND c.deleted = false")
     Page<Class> findBySchoolId(Integer schoolId, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"school", "teacher"})
     @Query("SELECT c FROM Class c WHERE c.teacher.id = :teacherId AND c.deleted = false")
     List<Class> findByTeacherId(Integer teacherId);
 
+    @EntityGraph(attributePaths = {"school", "teacher"})
     @Query("SELECT c FROM Class c WHERE c.teacher.id = :teacherId AND c.deleted = false")
     Page<Class> findByTeacherId(Integer teacherId, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"school", "teacher"})
     @Query("SELECT c FROM Class c WHERE c.school.id = :schoolId AND c.grade = :grade AND c.deleted = false")
     List<Class> findBySchoolIdAndGrade(Integer schoolId, Integer grade);
 
+    @EntityGraph(attributePaths = {"school", "teacher"})
     @Query("SELECT c FROM Class c WHERE c.school.id = :schoolId AND c.grade = :grade AND c.deleted = false")
     Page<Class> findBySchoolIdAndGrade(Integer schoolId, Integer grade, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"school", "teacher"})
     @Query("SELECT c FROM Class c WHERE c.grade = :grade AND c.deleted = false")
     List<Class> findByGrade(Integer grade);
 
+    @EntityGraph(attributePaths = {"school", "teacher"})
     @Query("SELECT c FROM Class c WHERE c.grade = :grade AND c.deleted = false")
     Page<Class> findByGrade(Integer grade, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"school", "teacher"})
     @Query("SELECT c FROM Class c WHERE c.name LIKE %:name% AND c.deleted = false")
     Page<Class> findByNameContainingIgnoreCase(String name, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"school", "teacher"})
     @Query("SELECT c FROM Class c WHERE c.school.id = :schoolId AND c.name LIKE %:name% AND c.deleted = false")
     List<Class> findBySchoolIdAndNameContainingIgnoreCase(Integer schoolId, String name);
 
+    @EntityGraph(attributePaths = {"school", "teacher"})
     @Query("SELECT c FROM Class c WHERE c.id = :id AND c.deleted = false")
     Optional<Class> findById(Integer id);
 
+    @EntityGraph(attributePaths = {"school", "teacher"})
     @Query("SELECT c FROM Class c WHERE c.deleted = false")
     Page<Class> findAll(Pageable pageable);
 }
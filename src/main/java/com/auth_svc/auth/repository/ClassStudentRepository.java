@@ -3,6 +3,7 @@ package com.auth_svc.auth.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -11,14 +12,25 @@ import com.auth_svc.auth.entity.ClassStudent;
 
 @Repository
 public interface ClassStudentRepository extends JpaRepository<ClassStudent, Integer> {
+    @EntityGraph(attributePaths = {"classEntity", "student"})
+    Optional<ClassStudent> findById(Integer id);
+
+    // Listings fetch class and student with the enrollment, one query whatever the number of rows
+    @EntityGraph(attributePaths = {"classEntity", "student"})
     List<ClassStudent> findByClassEntityId(Integer classId);
 
+    @EntityGraph(attributePaths = {"classEntity", "student"})
     List<ClassStudent> findByStudentId(Integer studentId);
 
+    @Override
+    @EntityGraph(attributePaths = {"classEntity", "student"})
+    List<ClassStudent> findAll();
+
     Optional<ClassStudent> findByClassEntityIdAndStudentId(Integer classId, Integer studentId);
 
     boolean existsByClassEntityIdAndStudentId(Integer classId, Integer studentId);
 
+    @EntityGraph(attributePaths = {"classEntity", "student"})
     @Query("SELECT cs FROM ClassStudent cs WHERE cs.classEntity.id = :classId")
     List<ClassStudent> findAllByClassId(Integer classId);
 
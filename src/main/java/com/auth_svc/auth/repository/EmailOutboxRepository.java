@@ -0,0 +1,28 @@
+package com.auth_svc.auth.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.auth_svc.auth.entity.EmailOutbox;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, String> {
+    // Rows locked by another dispatcher are skipped instead of waited on
+    @Query(
+            value = "SELECT * FROM email_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now"
+                    + " ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<EmailOutbox> lockDueBatch(LocalDateTime now, int limit);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM EmailOutbox e WHERE e.status IN :statuses AND e.createdAt < :before")
+    int deleteFinishedBefore(Collection<EmailOutbox.Status> statuses, LocalDateTime before);
+}
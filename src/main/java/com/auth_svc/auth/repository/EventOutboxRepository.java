@@ -0,0 +1,28 @@
+package com.auth_svc.auth.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.auth_svc.auth.entity.EventOutbox;
+
+@Repository
+public interface EventOutboxRepository extends JpaRepository<EventOutbox, Long> {
+    /*
+     * Only the oldest outstanding row of each (topic, key) is claimable: a later row waits until the
+     * earlier one is acknowledged and deleted, whether that row is due, leased to another relay or
+     * backing off after a failure. Replicas never send two records of one key in parallel and a
+     * retry never lands after a newer record, so compacted topics keep the latest state.
+     * Rows locked by another relay are skipped instead of waited on.
+     */
+    @Query(
+            value = "SELECT * FROM event_outbox o WHERE o.next_attempt_at <= :now"
+                    + " AND NOT EXISTS (SELECT 1 FROM event_outbox e"
+                    + " WHERE e.topic = o.topic AND e.event_key = o.event_key AND e.id < o.id)"
+                    + " ORDER BY o.id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<EventOutbox> lockDueBatch(LocalDateTime now, int limit);
+}
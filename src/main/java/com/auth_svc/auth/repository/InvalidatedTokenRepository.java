@@ -1,9 +1,20 @@
 package com.auth_svc.auth.repository;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.auth_svc.auth.entity.InvalidatedToken;
 
 @Repository
-public interface InvalidatedTokenRepository extends JpaRepository<InvalidatedToken, String> {}
+public interface InvalidatedTokenRepository extends JpaRepository<InvalidatedToken, String> {
+    List<InvalidatedToken> findByExpiryTimeAfter(Date cutoff);
+
+    @Query("SELECT t.id FROM InvalidatedToken t WHERE t.id IN :ids")
+    Set<String> findExistingIds(Collection<String> ids);
+}
@@ -0,0 +1,71 @@
+package com.auth_svc.auth.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.auth_svc.auth.entity.ReplayCheckpoint;
+
+@Repository
+public interface ReplayCheckpointRepository extends JpaRepository<ReplayCheckpoint, String> {
+    // Takes the job unless another instance is running it and has checkpointed since staleBefore
+    @Modifying
+    @Transactional
+    @Query("UPDATE ReplayCheckpoint c SET c.status = :running, c.owner = :owner, c.updatedAt = :now, c.lastError = null"
+            + " WHERE c.jobName = :jobName AND (c.status <> :running OR c.updatedAt < :staleBefore)")
+    int claim(
+            String jobName,
+            String owner,
+            LocalDateTime now,
+            LocalDateTime staleBefore,
+            ReplayCheckpoint.Status running);
+
+    // Concurrent first starts both try to create the row; the loser just goes on to claim it
+    @Modifying
+    @Transactional
+    @Query(
+            value = "INSERT INTO replay_checkpoints (job_name, processed, status) VALUES (:jobName, 0, 'STOPPED')"
+                    + " ON CONFLICT (job_name) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(String jobName);
+
+    /*
+     * The updates below only apply while the caller still holds the job. They return 0 once another
+     * instance has taken it over after the lease ran out, and the caller must then stop.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ReplayCheckpoint c SET c.lastKey = :lastKey, c.processed = :processed, c.updatedAt = :now"
+            + " WHERE c.jobName = :jobName AND c.owner = :owner AND c.status = :running")
+    int updateProgress(
+            String jobName,
+            String owner,
+            String lastKey,
+            long processed,
+            LocalDateTime now,
+            ReplayCheckpoint.Status running);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE ReplayCheckpoint c SET c.startedAt = :now, c.updatedAt = :now, c.completedAt = null"
+            + " WHERE c.jobName = :jobName AND c.owner = :owner AND c.status = :running")
+    int markStarted(String jobName, String owner, LocalDateTime now, ReplayCheckpoint.Status running);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE ReplayCheckpoint c SET c.status = :status, c.updatedAt = :now, c.completedAt = :completedAt,"
+            + " c.lastError = :lastError"
+            + " WHERE c.jobName = :jobName AND c.owner = :owner AND c.status = :running")
+    int finish(
+            String jobName,
+            String owner,
+            ReplayCheckpoint.Status status,
+            LocalDateTime now,
+            LocalDateTime completedAt,
+            String lastError,
+            ReplayCheckpoint.Status running);
+}
@@ -0,0 +1,32 @@
+package com.auth_svc.auth.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.auth_svc.auth.entity.SigningKey;
+
+@Repository
+public interface SigningKeyRepository extends JpaRepository<SigningKey, String> {
+    List<SigningKey> findByStatus(SigningKey.Status status);
+
+    // Replicas starting together race to bootstrap the ring; only the first insert of a kid wins
+    @Modifying
+    @Transactional
+    @Query(
+            value = "INSERT INTO jwt_signing_keys (kid, algorithm, secret, status, created_at, activated_at)"
+                    + " VALUES (:kid, :algorithm, :secret, 'ACTIVE', :now, :now) ON CONFLICT (kid) DO NOTHING",
+            nativeQuery = true)
+    int insertActiveIfAbsent(String kid, String algorithm, String secret, LocalDateTime now);
+
+    // Swaps the stored secret only if no other replica has rewritten it in the meantime
+    @Modifying
+    @Transactional
+    @Query("UPDATE SigningKey k SET k.secret = :newSecret WHERE k.kid = :kid AND k.secret = :oldSecret")
+    int replaceSecret(String kid, String oldSecret, String newSecret);
+}
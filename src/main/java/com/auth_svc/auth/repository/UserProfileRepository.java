@@ -5,46 +5,70 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.auth_svc.auth.entity.UserProfile;
+import com.auth_svc.auth.repository.projection.UserProfileSummary;
 
 @Repository
 public interface UserProfileRepository extends JpaRepository<UserProfile, Integer> {
+    @EntityGraph(attributePaths = "school")
     @Query("SELECT up FROM UserProfile up WHERE up.accountId = :accountId AND up.deleted = false")
     Optional<UserProfile> findByAccountId(String accountId);
 
     @Query("SELECT up FROM UserProfile up WHERE up.school.id = :schoolId AND up.deleted = false")
     List<UserProfile> findBySchoolId(Integer schoolId);
 
-    @Query("SELECT up FROM UserProfile up WHERE up.school.id = :schoolId AND up.deleted = false")
-    Page<UserProfile> findBySchoolId(Integer schoolId, Pageable pageable);
-
     @Query("SELECT up FROM UserProfile up WHERE up.role = :role AND up.deleted = false")
     List<UserProfile> findByRole(String role);
 
-    @Query("SELECT up FROM UserProfile up WHERE up.role = :role AND up.deleted = false")
-    Page<UserProfile> findByRole(String role, Pageable pageable);
-
     @Query("SELECT up FROM UserProfile up WHERE up.school.id = :schoolId AND up.role = :role AND up.deleted = false")
     List<UserProfile> findBySchoolIdAndRole(Integer schoolId, String role);
 
-    @Query("SELECT up FROM UserProfile up WHERE up.school.id = :schoolId AND up.role = :role AND up.deleted = false")
-    Page<UserProfile> findBySchoolIdAndRole(Integer schoolId, String role, Pageable pageable);
-
+    @EntityGraph(attributePaths = "school")
     @Query("SELECT up FROM UserProfile up WHERE up.id = :id AND up.deleted = false")
     Optional<UserProfile> findById(Integer id);
 
     @Query("SELECT up FROM UserProfile up WHERE up.deleted = false")
     Page<UserProfile> findAll(Pageable pageable);
 
-    @Query("SELECT up FROM UserProfile up WHERE up.teacherProofUrl IS NOT NULL AND up.deleted = false")
-    Page<UserProfile> findProfilesWithTeacherProof(Pageable pageable);
+    boolean existsByAccountId(String accountId);
 
-    @Query("SELECT up FROM UserProfile up WHERE up.teacherProofVerified = :teacherProofVerified AND up.deleted = false")
-    Page<UserProfile> findByTeacherProofVerified(Boolean teacherProofVerified, Pageable pageable);
+    // Paged listings read UserProfileSummary rows instead of entities
+    String SUMMARY = "SELECT new com.auth_svc.auth.repository.projection.UserProfileSummary("
+            + "up.id, up.accountId, s.id, s.name, up.fullName, up.dateOfBirth, up.avatarUrl, up.role,"
+            + " up.teacherProofUrl, up.teacherProofVerified, up.createdAt, up.updatedAt)"
+            + " FROM UserProfile up LEFT JOIN up.school s";
+    String COUNT = "SELECT COUNT(up) FROM UserProfile up";
 
-    boolean existsByAccountId(String accountId);
+    @Query(value = SUMMARY + " WHERE up.deleted = false", countQuery = COUNT + " WHERE up.deleted = false")
+    Page<UserProfileSummary> findAllSummaries(Pageable pageable);
+
+    @Query(
+            value = SUMMARY + " WHERE up.school.id = :schoolId AND up.deleted = false",
+            countQuery = COUNT + " WHERE up.school.id = :schoolId AND up.deleted = false")
+    Page<UserProfileSummary> findSummariesBySchoolId(Integer schoolId, Pageable pageable);
+
+    @Query(
+            value = SUMMARY + " WHERE up.role = :role AND up.deleted = false",
+            countQuery = COUNT + " WHERE up.role = :role AND up.deleted = false")
+    Page<UserProfileSummary> findSummariesByRole(String role, Pageable pageable);
+
+    @Query(
+            value = SUMMARY + " WHERE up.school.id = :schoolId AND up.role = :role AND up.deleted = false",
+            countQuery = COUNT + " WHERE up.school.id = :schoolId AND up.role = :role AND up.deleted = false")
+    Page<UserProfileSummary> findSummariesBySchoolIdAndRole(Integer schoolId, String role, Pageable pageable);
+
+    @Query(
+            value = SUMMARY + " WHERE up.teacherProofUrl IS NOT NULL AND up.deleted = false",
+            countQuery = COUNT + " WHERE up.teacherProofUrl IS NOT NULL AND up.deleted = false")
+    Page<UserProfileSummary> findSummariesWithTeacherProof(Pageable pageable);
+
+    @Query(
+            value = SUMMARY + " WHERE up.teacherProofVerified = :teacherProofVerified AND up.deleted = false",
+            countQuery = COUNT + " WHERE up.teacherProofVerified = :teacherProofVerified AND up.deleted = false")
+    Page<UserProfileSummary> findSummariesByTeacherProofVerified(Boolean teacherProofVerified, Pageable pageable);
 }
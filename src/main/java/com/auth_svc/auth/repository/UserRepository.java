@@ -1,31 +1,72 @@
 package com.auth_svc.auth.repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.auth_svc.auth.entity.User;
+import com.auth_svc.auth.repository.projection.UserRegistrationView;
+import com.auth_svc.auth.repository.projection.UserRoleView;
+import com.auth_svc.auth.repository.projection.UserWatermarkView;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
     boolean existsByEmail(String email);
 
+    // Roles are needed for the token scope, so single-user lookups fetch them in the same query
+    @EntityGraph(attributePaths = "roles")
     @Query("SELECT u FROM User u WHERE u.email = :email AND u.deleted = false")
     Optional<User> findByEmail(String email);
 
+    @EntityGraph(attributePaths = "roles")
     @Query("SELECT u FROM User u WHERE u.googleId = :googleId AND u.deleted = false")
     Optional<User> findByGoogleId(String googleId);
 
     @Query("SELECT u FROM User u WHERE u.verificationToken = :token AND u.deleted = false")
     Optional<User> findByVerificationToken(String token);
 
+    @EntityGraph(attributePaths = "roles")
     @Query("SELECT u FROM User u WHERE u.id = :id AND u.deleted = false")
     Optional<User> findById(String id);
 
+    @Query("SELECT u.tokensValidAfter FROM User u WHERE u.id = :id")
+    Optional<Instant> findTokensValidAfterById(String id);
+
+    @Query("SELECT u.id AS userId, u.tokensValidAfter AS tokensValidAfter FROM User u"
+            + " WHERE u.id IN :ids AND u.tokensValidAfter IS NOT NULL")
+    List<UserWatermarkView> findTokensValidAfterByIds(Collection<String> ids);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.tokensValidAfter = :validAfter WHERE u.id = :id AND u.deleted = false")
+    int updateTokensValidAfter(String id, Instant validAfter);
+
+    // Only replaces the hash the caller verified against, so a concurrent password change wins
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.id = :id AND u.password = :oldHash")
+    int updatePasswordIfUnchanged(String id, String oldHash, String newHash);
+
+    // Keyset page ordered by primary key, so deep pages cost the same as the first one
+    @Query("SELECT u.id AS id, u.email AS email, u.username AS username, u.createdAt AS createdAt FROM User u"
+            + " WHERE u.id > :afterId AND u.deleted = false ORDER BY u.id")
+    List<UserRegistrationView> findRegistrationsAfter(String afterId, Limit limit);
+
+    // Role names of a whole page of users in one query; the role rows come from RoleCacheService
+    @Query("SELECT u.id AS userId, r.name AS roleName FROM User u JOIN u.roles r WHERE u.id IN :userIds")
+    List<UserRoleView> findRoleNamesByUserIds(Collection<String> userIds);
+
     // Pagination and search
     @Query("SELECT u FROM User u WHERE u.deleted = false")
     Page<User> findAll(Pageable pageable);
@@ -0,0 +1,22 @@
+package com.auth_svc.auth.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Columns shown by the user-profile listings, with the school name joined in. Read as a DTO, so
+ * Hibernate keeps no entity, snapshot or lazy proxy per row.
+ */
+public record UserProfileSummary(
+        Integer id,
+        String accountId,
+        Integer schoolId,
+        String schoolName,
+        String fullName,
+        LocalDate dateOfBirth,
+        String avatarUrl,
+        String role,
+        String teacherProofUrl,
+        boolean teacherProofVerified,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {}
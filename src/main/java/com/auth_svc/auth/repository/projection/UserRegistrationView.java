@@ -0,0 +1,14 @@
+package com.auth_svc.auth.repository.projection;
+
+import java.time.LocalDateTime;
+
+// Columns needed to rebuild a user.registered event, without loading the user entity and its roles
+public interface UserRegistrationView {
+    String getId();
+
+    String getEmail();
+
+    String getUsername();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,8 @@
+package com.auth_svc.auth.repository.projection;
+
+// One user_roles row, used to attach roles to a page of users in a single query
+public interface UserRoleView {
+    String getUserId();
+
+    String getRoleName();
+}
@@ -0,0 +1,10 @@
+package com.auth_svc.auth.repository.projection;
+
+import java.time.Instant;
+
+// tokens_valid_after of one user, used to load the watermarks of a whole introspection batch at once
+public interface UserWatermarkView {
+    String getUserId();
+
+    Instant getTokensValidAfter();
+}
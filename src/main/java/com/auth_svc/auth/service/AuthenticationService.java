@@ -1,8 +1,10 @@
 package com.auth_svc.auth.service;
 
 import java.text.ParseException;
+import java.util.List;
 
 import com.auth_svc.auth.dto.request.AuthenticationRequest;
+import com.auth_svc.auth.dto.request.BatchIntrospectRequest;
 import com.auth_svc.auth.dto.request.IntrospectRequest;
 import com.auth_svc.auth.dto.request.LogoutRequest;
 import com.auth_svc.auth.dto.request.RefreshRequest;
@@ -13,6 +15,8 @@ import com.nimbusds.jose.JOSEException;
 public interface AuthenticationService {
     IntrospectResponse introspect(IntrospectRequest request);
 
+    List<IntrospectResponse> introspectBatch(BatchIntrospectRequest request);
+
     AuthenticationResponse authenticate(AuthenticationRequest request);
 
     void logout(LogoutRequest request) throws ParseException, JOSEException;
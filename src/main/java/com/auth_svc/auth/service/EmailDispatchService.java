@@ -0,0 +1,9 @@
+package com.auth_svc.auth.service;
+
+public interface EmailDispatchService {
+    // Sends one batch of due outbox emails and returns how many rows were processed
+    int dispatchDue();
+
+    // Deletes SENT and DEAD rows past the retention period and returns how many were removed
+    int purgeFinished();
+}
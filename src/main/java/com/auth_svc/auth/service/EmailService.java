@@ -1,5 +1,6 @@
 package com.auth_svc.auth.service;
 
+// Emails are queued in the caller's transaction and delivered asynchronously
 public interface EmailService {
     void sendVerificationEmail(String to, String username, String verificationToken);
 
@@ -0,0 +1,12 @@
+package com.auth_svc.auth.service;
+
+import java.util.Locale;
+import java.util.Map;
+
+public interface EmailTemplateService {
+    // Placeholders are HTML-escaped; the most specific locale variant of the template wins
+    RenderedEmail render(String templateName, Locale locale, Map<String, String> params);
+
+    // UTF-8 encoded HTML body, ready to be used as the MIME part content
+    record RenderedEmail(String subject, byte[] htmlBody) {}
+}
@@ -0,0 +1,9 @@
+package com.auth_svc.auth.service;
+
+public interface EventOutboxService {
+    // Stores the event in the caller's transaction; it is published to Kafka after commit
+    void enqueue(String topic, String key, Object event);
+
+    // Publishes one batch of due events and returns how many rows were processed
+    int relayDue();
+}
@@ -0,0 +1,11 @@
+package com.auth_svc.auth.service;
+
+public interface KeyEncryptionService {
+    // Encrypts key material for storage; the kid is bound to the ciphertext so rows cannot be swapped
+    String encrypt(String kid, String keyMaterial);
+
+    // Decrypts stored key material; values written before encryption was introduced are returned as is
+    String decrypt(String kid, String storedValue);
+
+    boolean isEncrypted(String storedValue);
+}
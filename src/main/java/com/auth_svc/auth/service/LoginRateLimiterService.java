@@ -0,0 +1,9 @@
+package com.auth_svc.auth.service;
+
+public interface LoginRateLimiterService {
+    // Throws RetryableAppException (429) when the email or client IP is over its login budget
+    void checkLogin(String email, String clientIp);
+
+    // Throws RetryableAppException (429) when the email or client IP is over its resend budget
+    void checkVerificationResend(String email, String clientIp);
+}
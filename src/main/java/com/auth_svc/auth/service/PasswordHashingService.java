@@ -0,0 +1,10 @@
+package com.auth_svc.auth.service;
+
+public interface PasswordHashingService {
+    String encode(CharSequence rawPassword);
+
+    boolean matches(CharSequence rawPassword, String encodedPassword);
+
+    // True when the hash uses an outdated algorithm or a weaker cost than the current encoder
+    boolean upgradeEncoding(String encodedPassword);
+}
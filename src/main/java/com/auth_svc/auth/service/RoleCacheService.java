@@ -0,0 +1,13 @@
+package com.auth_svc.auth.service;
+
+import java.util.Map;
+
+import com.auth_svc.auth.entity.Role;
+
+public interface RoleCacheService {
+    // Every role by name, shared across requests; the roles table only holds a handful of rows
+    Map<String, Role> getRoles();
+
+    // Call after creating or deleting a role so this node reloads on next use
+    void invalidate();
+}
@@ -0,0 +1,31 @@
+package com.auth_svc.auth.service;
+
+import java.util.List;
+
+import com.auth_svc.auth.dto.request.SigningKeyRequest;
+import com.auth_svc.auth.dto.response.SigningKeyResponse;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+public interface SigningKeyService {
+    String sign(JWTClaimsSet claims);
+
+    // Signs an already serialized claims JSON with the active key's pre-encoded header
+    String sign(byte[] claimsJson);
+
+    boolean verify(SignedJWT signedJWT) throws JOSEException;
+
+    PublicJwkSet getPublicJwkSet();
+
+    List<SigningKeyResponse> getKeys();
+
+    SigningKeyResponse addKey(SigningKeyRequest request);
+
+    SigningKeyResponse promoteKey(String kid);
+
+    SigningKeyResponse retireKey(String kid);
+
+    // Public halves of the asymmetric keys in the ring, rendered as a JWK set document
+    record PublicJwkSet(String json, String etag) {}
+}
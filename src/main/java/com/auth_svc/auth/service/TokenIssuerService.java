@@ -0,0 +1,8 @@
+package com.auth_svc.auth.service;
+
+import com.auth_svc.auth.dto.response.AuthenticationResponse;
+import com.auth_svc.auth.entity.User;
+
+public interface TokenIssuerService {
+    AuthenticationResponse issue(User user);
+}
@@ -0,0 +1,5 @@
+package com.auth_svc.auth.service;
+
+public interface TokenPurgeService {
+    long purgeExpiredTokens();
+}
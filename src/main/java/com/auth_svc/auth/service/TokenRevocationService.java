@@ -0,0 +1,15 @@
+package com.auth_svc.auth.service;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.Set;
+
+public interface TokenRevocationService {
+    void revoke(String jti, String userId, Date expiryTime);
+
+    void applyRevocation(String jti, Date expiryTime);
+
+    boolean isRevoked(String jti);
+
+    Set<String> findRevoked(Collection<String> jtis);
+}
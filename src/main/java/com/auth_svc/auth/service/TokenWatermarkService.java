@@ -0,0 +1,17 @@
+package com.auth_svc.auth.service;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+
+public interface TokenWatermarkService {
+    void revokeAllSessions(String userId);
+
+    boolean isIssuedBeforeWatermark(String userId, Date issueTime);
+
+    // Watermarks of the users that have one; users missing from the cache are loaded in one query
+    Map<String, Instant> findWatermarks(Collection<String> userIds);
+
+    void applyWatermark(String userId, Instant validAfter);
+}
@@ -0,0 +1,13 @@
+package com.auth_svc.auth.service;
+
+import com.auth_svc.auth.dto.response.ReplayStatusResponse;
+
+public interface UserReplayService {
+    // Starts publishing user.registered for every user, resuming from the last checkpoint unless restart is set
+    ReplayStatusResponse start(boolean restart);
+
+    // Asks the running replay to stop after the current page; it can be resumed later
+    ReplayStatusResponse stop();
+
+    ReplayStatusResponse getStatus();
+}
@@ -4,36 +4,39 @@ import java.text.ParseException;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Date;
-import java.util.StringJoiner;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.CollectionUtils;
 
 import com.auth_svc.auth.dto.request.AuthenticationRequest;
+import com.auth_svc.auth.dto.request.BatchIntrospectRequest;
 import com.auth_svc.auth.dto.request.IntrospectRequest;
 import com.auth_svc.auth.dto.request.LogoutRequest;
 import com.auth_svc.auth.dto.request.RefreshRequest;
 import com.auth_svc.auth.dto.response.AuthenticationResponse;
 import com.auth_svc.auth.dto.response.IntrospectResponse;
-import com.auth_svc.auth.entity.InvalidatedToken;
 import com.auth_svc.auth.entity.User;
 import com.auth_svc.auth.exception.AppException;
 import com.auth_svc.auth.exception.ErrorCode;
-import com.auth_svc.auth.repository.InvalidatedTokenRepository;
 import com.auth_svc.auth.repository.UserRepository;
 import com.auth_svc.auth.service.AuthenticationService;
 import com.auth_svc.auth.service.EmailService;
+import com.auth_svc.auth.service.PasswordHashingService;
+import com.auth_svc.auth.service.SigningKeyService;
+import com.auth_svc.auth.service.TokenIssuerService;
+import com.auth_svc.auth.service.TokenRevocationService;
+import com.auth_svc.auth.service.TokenWatermarkService;
 import com.auth_svc.event.UserEventProducer;
 import com.auth_svc.event.UserRegisteredEvent;
 import com.nimbusds.jose.*;
-import com.nimbusds.jose.crypto.MACSigner;
-import com.nimbusds.jose.crypto.MACVerifier;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 
@@ -49,22 +52,22 @@ import lombok.extern.slf4j.Slf4j;
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class AuthenticationServiceImpl implements AuthenticationService {
     UserRepository userRepository;
-    InvalidatedTokenRepository invalidatedTokenRepository;
+    TokenRevocationService tokenRevocationService;
+    SigningKeyService signingKeyService;
+    TokenIssuerService tokenIssuerService;
+    PasswordHashingService passwordHashingService;
+    TokenWatermarkService tokenWatermarkService;
     EmailService emailService;
     UserEventProducer userEventProducer;
 
-    @NonFinal
-    @Value("${jwt.signerKey}")
-    protected String SIGNER_KEY;
-
-    @NonFinal
-    @Value("${jwt.valid-duration}")
-    protected long VALID_DURATION;
-
     @NonFinal
     @Value("${jwt.refreshable-duration}")
     protected long REFRESHABLE_DURATION;
 
+    @NonFinal
+    @Value("${app.introspect.batch-max-size:100}")
+    protected int INTROSPECT_BATCH_MAX_SIZE;
+
     @Override
     public IntrospectResponse introspect(IntrospectRequest request) {
         var token = request.getToken();
@@ -79,23 +82,60 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         return IntrospectResponse.builder().valid(isValid).build();
     }
 
+    @Override
+    public List<IntrospectResponse> introspectBatch(BatchIntrospectRequest request) {
+        List<String> tokens = request.getTokens();
+        if (tokens.size() > INTROSPECT_BATCH_MAX_SIZE) {
+            throw new AppException(ErrorCode.INTROSPECT_BATCH_TOO_LARGE);
+        }
+
+        // Signature checks are CPU bound and independent, so they run in parallel. They only touch
+        // the database for the rate-limited key ring reload on an unknown kid
+        List<JWTClaimsSet> verified =
+                tokens.parallelStream().map(this::verifySignatureQuietly).toList();
+
+        // Revocations and watermarks are then resolved for the whole batch at once
+        List<String> jtis = new ArrayList<>();
+        Set<String> subjects = new HashSet<>();
+        for (JWTClaimsSet claims : verified) {
+            if (claims != null && claims.getJWTID() != null) {
+                jtis.add(claims.getJWTID());
+            }
+            if (claims != null && claims.getSubject() != null) {
+                subjects.add(claims.getSubject());
+            }
+        }
+        Set<String> revoked = tokenRevocationService.findRevoked(jtis);
+        Map<String, Instant> watermarks = tokenWatermarkService.findWatermarks(subjects);
+
+        return verified.stream()
+                .map(claims -> IntrospectResponse.builder()
+                        .valid(claims != null
+                                && claims.getJWTID() != null
+                                && !revoked.contains(claims.getJWTID())
+                                && !isIssuedBefore(claims, watermarks))
+                        .build())
+                .toList();
+    }
+
     @Override
     public AuthenticationResponse authenticate(AuthenticationRequest request) {
-        PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(10);
         var user = userRepository
                 .findByEmail(request.getEmail())
                 .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_EXISTED));
 
-        boolean authenticated = passwordEncoder.matches(request.getPassword(), user.getPassword());
+        boolean authenticated = passwordHashingService.matches(request.getPassword(), user.getPassword());
 
         if (!authenticated) throw new AppException(ErrorCode.UNAUTHENTICATED);
 
+        upgradePasswordHash(user, request.getPassword());
+
         // Check if email is verified
         if (!user.isEmailVerified()) {
             throw new AppException(ErrorCode.EMAIL_NOT_VERIFIED);
         }
 
-        var token = generateToken(user);
+        var response = tokenIssuerService.issue(user);
 
         //        // Send sign-in notification email
         //        try {
@@ -104,11 +144,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         //            log.warn("Sign-in email failed for {}: {}", user.getEmail(), ex.getMessage());
         //        }
 
-        return AuthenticationResponse.builder()
-                .token(token)
-                .expiryTime(new Date(
-                        Instant.now().plus(VALID_DURATION, ChronoUnit.SECONDS).toEpochMilli()))
-                .build();
+        return response;
     }
 
     @Override
@@ -120,10 +156,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
             String jit = signToken.getJWTClaimsSet().getJWTID();
             Date expiryTime = signToken.getJWTClaimsSet().getExpirationTime();
 
-            InvalidatedToken invalidatedToken =
-                    InvalidatedToken.builder().id(jit).expiryTime(expiryTime).build();
-
-            invalidatedTokenRepository.save(invalidatedToken);
+            tokenRevocationService.revoke(jit, signToken.getJWTClaimsSet().getSubject(), expiryTime);
         } catch (AppException exception) {
             log.info("Token already expired");
         }
@@ -137,22 +170,13 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         var jit = signedJWT.getJWTClaimsSet().getJWTID();
         var expiryTime = signedJWT.getJWTClaimsSet().getExpirationTime();
 
-        InvalidatedToken invalidatedToken =
-                InvalidatedToken.builder().id(jit).expiryTime(expiryTime).build();
-
-        invalidatedTokenRepository.save(invalidatedToken);
-
         var userId = signedJWT.getJWTClaimsSet().getSubject();
 
-        var user = userRepository.findById(userId).orElseThrow(() -> new AppException(ErrorCode.UNAUTHENTICATED));
+        tokenRevocationService.revoke(jit, userId, expiryTime);
 
-        var token = generateToken(user);
+        var user = userRepository.findById(userId).orElseThrow(() -> new AppException(ErrorCode.UNAUTHENTICATED));
 
-        return AuthenticationResponse.builder()
-                .token(token)
-                .expiryTime(new Date(
-                        Instant.now().plus(VALID_DURATION, ChronoUnit.SECONDS).toEpochMilli()))
-                .build();
+        return tokenIssuerService.issue(user);
     }
 
     @Override
@@ -201,37 +225,38 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         log.info("Verification email resent to: {}", email);
     }
 
-    private String generateToken(User user) {
-        JWSHeader header = new JWSHeader(JWSAlgorithm.HS512);
-
-        JWTClaimsSet jwtClaimsSet = new JWTClaimsSet.Builder()
-                .subject(user.getId())
-                .issuer("school.edu")
-                .issueTime(new Date())
-                .expirationTime(new Date(
-                        Instant.now().plus(VALID_DURATION, ChronoUnit.SECONDS).toEpochMilli()))
-                .jwtID(UUID.randomUUID().toString())
-                .claim("scope", buildScope(user))
-                .claim("email", user.getEmail())
-                .claim("emailVerified", user.isEmailVerified())
-                .build();
-
-        Payload payload = new Payload(jwtClaimsSet.toJSONObject());
-
-        JWSObject jwsObject = new JWSObject(header, payload);
+    // Re-hash with the current algorithm/cost while the raw password is at hand; never fails the login
+    private void upgradePasswordHash(User user, String rawPassword) {
+        String currentHash = user.getPassword();
+        if (!passwordHashingService.upgradeEncoding(currentHash)) {
+            return;
+        }
 
         try {
-            jwsObject.sign(new MACSigner(SIGNER_KEY.getBytes()));
-            return jwsObject.serialize();
-        } catch (JOSEException e) {
-            log.error("Cannot create token", e);
-            throw new RuntimeException(e);
+            String upgradedHash = passwordHashingService.encode(rawPassword);
+            if (userRepository.updatePasswordIfUnchanged(user.getId(), currentHash, upgradedHash) > 0) {
+                user.setPassword(upgradedHash);
+                log.info("Upgraded password hash for user {}", user.getId());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not upgrade password hash for user {}: {}", user.getId(), e.getMessage());
         }
     }
 
     private SignedJWT verifyToken(String token, boolean isRefresh) throws JOSEException, ParseException {
-        JWSVerifier verifier = new MACVerifier(SIGNER_KEY.getBytes());
+        SignedJWT signedJWT = verifySignature(token, isRefresh);
+
+        if (tokenRevocationService.isRevoked(signedJWT.getJWTClaimsSet().getJWTID()))
+            throw new AppException(ErrorCode.UNAUTHENTICATED);
+
+        if (tokenWatermarkService.isIssuedBeforeWatermark(
+                signedJWT.getJWTClaimsSet().getSubject(),
+                signedJWT.getJWTClaimsSet().getIssueTime())) throw new AppException(ErrorCode.UNAUTHENTICATED);
 
+        return signedJWT;
+    }
+
+    private SignedJWT verifySignature(String token, boolean isRefresh) throws JOSEException, ParseException {
         SignedJWT signedJWT = SignedJWT.parse(token);
 
         Date expiryTime = (isRefresh)
@@ -243,23 +268,28 @@ public class AuthenticationServiceImpl implements AuthenticationService {
                         .toEpochMilli())
                 : signedJWT.getJWTClaimsSet().getExpirationTime();
 
-        var verified = signedJWT.verify(verifier);
+        var verified = signingKeyService.verify(signedJWT);
 
         if (!(verified && expiryTime.after(new Date()))) throw new AppException(ErrorCode.UNAUTHENTICATED);
 
-        if (invalidatedTokenRepository.existsById(signedJWT.getJWTClaimsSet().getJWTID()))
-            throw new AppException(ErrorCode.UNAUTHENTICATED);
-
         return signedJWT;
     }
 
-    private String buildScope(User user) {
-        StringJoiner stringJoiner = new StringJoiner(" ");
-
-        if (!CollectionUtils.isEmpty(user.getRoles())) {
-            user.getRoles().forEach(role -> stringJoiner.add("ROLE_" + role.getName()));
+    private JWTClaimsSet verifySignatureQuietly(String token) {
+        try {
+            return verifySignature(token, false).getJWTClaimsSet();
+        } catch (JOSEException | ParseException | RuntimeException e) {
+            return null;
         }
+    }
 
-        return stringJoiner.toString();
+    // Same rule as TokenWatermarkService.isIssuedBeforeWatermark, against preloaded watermarks
+    private boolean isIssuedBefore(JWTClaimsSet claims, Map<String, Instant> watermarks) {
+        Instant watermark = claims.getSubject() == null ? null : watermarks.get(claims.getSubject());
+        if (watermark == null) {
+            return false;
+        }
+        return claims.getIssueTime() == null
+                || claims.getIssueTime().toInstant().isBefore(watermark);
     }
 }
@@ -20,6 +20,7 @@ import com.auth_svc.auth.repository.ClassRepository;
 import com.auth_svc.auth.repository.SchoolRepository;
 import com.auth_svc.auth.repository.UserProfileRepository;
 import com.auth_svc.auth.service.ClassService;
+import com.auth_svc.event.ChangeEventProducer;
 
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +35,7 @@ public class ClassServiceImpl implements ClassService {
     ClassRepository classRepository;
     SchoolRepository schoolRepository;
     UserProfileRepository userProfileRepository;
+    ChangeEventProducer changeEventProducer;
 
     @Transactional
     @Override
@@ -61,6 +63,7 @@ public class ClassServiceImpl implements ClassService {
         }
 
         classEntity = classRepository.save(classEntity);
+        changeEventProducer.publishClassChanged(classEntity);
         return mapToResponse(classEntity);
     }
 
@@ -89,11 +92,13 @@ public class ClassServiceImpl implements ClassService {
         }
 
         classEntity = classRepository.save(classEntity);
+        changeEventProducer.publishClassChanged(classEntity);
         log.info("Teacher {} successfully created class {}", accountId, classEntity.getId());
         return mapToResponse(classEntity);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ClassResponse getClassById(Integer id) {
         log.info("Getting class by id: {}", id);
         Class classEntity = classRepository.findById(id).orElseThrow(() -> new AppException(ErrorCode.CLASS_NOT_FOUND));
@@ -101,6 +106,7 @@ public class ClassServiceImpl implements ClassService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ClassResponse> getMyClasses(String accountId) {
         log.info("Getting classes for teacher with accountId: {}", accountId);
 
@@ -114,6 +120,7 @@ public class ClassServiceImpl implements ClassService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<ClassResponse> getMyClasses(String accountId, Pageable pageable) {
         log.info("Getting classes for teacher with accountId: {} with pagination", accountId);
 
@@ -191,6 +198,7 @@ public class ClassServiceImpl implements ClassService {
         }
 
         classEntity = classRepository.save(classEntity);
+        changeEventProducer.publishClassChanged(classEntity);
         return mapToResponse(classEntity);
     }
 
@@ -201,9 +209,11 @@ public class ClassServiceImpl implements ClassService {
         Class classEntity = classRepository.findById(id).orElseThrow(() -> new AppException(ErrorCode.CLASS_NOT_FOUND));
         classEntity.softDelete();
         classRepository.save(classEntity);
+        changeEventProducer.publishClassChanged(classEntity);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<ClassResponse> getAllClasses(Pageable pageable) {
         log.info(
                 "Getting all classes with pagination - page: {}, size: {}",
@@ -213,36 +223,42 @@ public class ClassServiceImpl implements ClassService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<ClassResponse> getClassesBySchool(Integer schoolId, Pageable pageable) {
         log.info("Getting classes by school ID: {} with pagination", schoolId);
         return classRepository.findBySchoolId(schoolId, pageable).map(this::mapToResponse);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<ClassResponse> getClassesByTeacher(Integer teacherId, Pageable pageable) {
         log.info("Getting classes by teacher ID: {} with pagination", teacherId);
         return classRepository.findByTeacherId(teacherId, pageable).map(this::mapToResponse);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<ClassResponse> getClassesByGrade(Integer grade, Pageable pageable) {
         log.info("Getting classes by grade: {} with pagination", grade);
         return classRepository.findByGrade(grade, pageable).map(this::mapToResponse);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<ClassResponse> getClassesBySchoolAndGrade(Integer schoolId, Integer grade, Pageable pageable) {
         log.info("Getting classes by school ID: {} and grade: {} with pagination", schoolId, grade);
         return classRepository.findBySchoolIdAndGrade(schoolId, grade, pageable).map(this::mapToResponse);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<ClassResponse> searchClassesByName(String name, Pageable pageable) {
         log.info("Searching classes by name: {} with pagination", name);
         return classRepository.findByNameContainingIgnoreCase(name, pageable).map(this::mapToResponse);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ClassResponse> searchClassesBySchoolAndName(Integer schoolId, String name) {
         log.info("Searching classes by school ID: {} and name: {}", schoolId, name);
         return classRepository.findBySchoolIdAndNameContainingIgnoreCase(schoolId, name).stream()
@@ -18,6 +18,7 @@ import com.auth_svc.auth.repository.ClassRepository;
 import com.auth_svc.auth.repository.ClassStudentRepository;
 import com.auth_svc.auth.repository.UserProfileRepository;
 import com.auth_svc.auth.service.ClassStudentService;
+import com.auth_svc.event.ChangeEventProducer;
 
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +33,7 @@ public class ClassStudentServiceImpl implements ClassStudentService {
     ClassStudentRepository classStudentRepository;
     ClassRepository classRepository;
     UserProfileRepository userProfileRepository;
+    ChangeEventProducer changeEventProducer;
 
     @Transactional
     @Override
@@ -58,6 +60,8 @@ public class ClassStudentServiceImpl implements ClassStudentService {
         // Increment student count
         classEntity.setStudentCount(classEntity.getStudentCount() + 1);
         classRepository.save(classEntity);
+        changeEventProducer.publishEnrollmentChanged(classEntity.getId(), student.getId(), true);
+        changeEventProducer.publishClassChanged(classEntity);
 
         return mapToResponse(classStudent);
     }
@@ -92,12 +96,15 @@ public class ClassStudentServiceImpl implements ClassStudentService {
         // Increment student count
         classEntity.setStudentCount(classEntity.getStudentCount() + 1);
         classRepository.save(classEntity);
+        changeEventProducer.publishEnrollmentChanged(classEntity.getId(), student.getId(), true);
+        changeEventProducer.publishClassChanged(classEntity);
 
         log.info("Student {} successfully enrolled in class {}", studentId, request.getClassId());
         return mapToResponse(classStudent);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ClassStudentResponse getEnrollmentById(Integer id) {
         log.info("Getting enrollment by id: {}", id);
         ClassStudent classStudent = classStudentRepository
@@ -107,6 +114,7 @@ public class ClassStudentServiceImpl implements ClassStudentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ClassStudentResponse> getMyEnrollments(String accountId) {
         log.info("Getting enrollments for student with accountId: {}", accountId);
 
@@ -120,6 +128,7 @@ public class ClassStudentServiceImpl implements ClassStudentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ClassStudentResponse> getAllEnrollments() {
         log.info("Getting all enrollments");
         return classStudentRepository.findAll().stream()
@@ -128,6 +137,7 @@ public class ClassStudentServiceImpl implements ClassStudentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ClassStudentResponse> getEnrollmentsByClass(Integer classId) {
         log.info("Getting enrollments by class ID: {}", classId);
         return classStudentRepository.findByClassEntityId(classId).stream()
@@ -136,6 +146,7 @@ public class ClassStudentServiceImpl implements ClassStudentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ClassStudentResponse> getEnrollmentsByStudent(Integer studentId) {
         log.info("Getting enrollments by student ID: {}", studentId);
         return classStudentRepository.findByStudentId(studentId).stream()
@@ -159,6 +170,8 @@ public class ClassStudentServiceImpl implements ClassStudentService {
                 classRepository.findById(classId).orElseThrow(() -> new AppException(ErrorCode.CLASS_NOT_FOUND));
         classEntity.setStudentCount(Math.max(0, classEntity.getStudentCount() - 1));
         classRepository.save(classEntity);
+        changeEventProducer.publishEnrollmentChanged(classId, studentId, false);
+        changeEventProducer.publishClassChanged(classEntity);
     }
 
     @Transactional
@@ -181,6 +194,8 @@ public class ClassStudentServiceImpl implements ClassStudentService {
                 classRepository.findById(classId).orElseThrow(() -> new AppException(ErrorCode.CLASS_NOT_FOUND));
         classEntity.setStudentCount(Math.max(0, classEntity.getStudentCount() - 1));
         classRepository.save(classEntity);
+        changeEventProducer.publishEnrollmentChanged(classId, student.getId(), false);
+        changeEventProducer.publishClassChanged(classEntity);
 
         log.info("Student {} successfully unenrolled from class {}", accountId, classId);
     }
@@ -189,10 +204,12 @@ public class ClassStudentServiceImpl implements ClassStudentService {
     @Override
     public void deleteEnrollment(Integer id) {
         log.info("Deleting enrollment id: {}", id);
-        if (!classStudentRepository.existsById(id)) {
-            throw new AppException(ErrorCode.CLASS_STUDENT_NOT_FOUND);
-        }
-        classStudentRepository.deleteById(id);
+        ClassStudent classStudent = classStudentRepository
+                .findById(id)
+                .orElseThrow(() -> new AppException(ErrorCode.CLASS_STUDENT_NOT_FOUND));
+        classStudentRepository.delete(classStudent);
+        changeEventProducer.publishEnrollmentChanged(
+                classStudent.getClassEntity().getId(), classStudent.getStudent().getId(), false);
     }
 
     private ClassStudentResponse mapToResponse(ClassStudent classStudent) {
@@ -0,0 +1,295 @@
+package com.auth_svc.auth.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import jakarta.activation.DataHandler;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.util.ByteArrayDataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.auth_svc.auth.entity.EmailOutbox;
+import com.auth_svc.auth.repository.EmailOutboxRepository;
+import com.auth_svc.auth.service.EmailDispatchService;
+import com.auth_svc.auth.service.EmailTemplateService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Delivers {@code email_outbox} rows. A batch is claimed in a short transaction with
+ * {@code FOR UPDATE SKIP LOCKED} (so replicas never pick the same rows) and leased by pushing
+ * {@code next_attempt_at} forward; the SMTP work then runs without holding a database connection,
+ * sending the whole batch over one transport connection. Bodies come from
+ * {@link EmailTemplateService}. Failed sends are retried with exponential backoff and end up
+ * {@code DEAD} after the maximum number of attempts.
+ *
+ * <p>Template parameters carry verification links and reset tokens, so they are cleared as soon
+ * as a row reaches {@code SENT} or {@code DEAD}; the rows themselves are deleted once they are
+ * older than {@code app.email.outbox.retention-days}.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class EmailDispatchServiceImpl implements EmailDispatchService {
+    static final TypeReference<Map<String, String>> PARAMS_TYPE = new TypeReference<>() {};
+    static final int MAX_ERROR_LENGTH = 1000;
+    static final String HTML_CONTENT_TYPE = "text/html; charset=UTF-8";
+    static final EnumSet<EmailOutbox.Status> FINISHED = EnumSet.of(EmailOutbox.Status.SENT, EmailOutbox.Status.DEAD);
+
+    EmailOutboxRepository emailOutboxRepository;
+    ObjectProvider<JavaMailSender> mailSenderProvider;
+    EmailTemplateService emailTemplateService;
+    TransactionTemplate transactionTemplate;
+    ObjectMapper objectMapper;
+
+    Counter sent;
+    Counter retried;
+    Counter dead;
+    Timer batchTimer;
+
+    @NonFinal
+    @Value("${app.email.outbox.batch-size:50}")
+    int BATCH_SIZE;
+
+    @NonFinal
+    @Value("${app.email.outbox.max-attempts:8}")
+    int MAX_ATTEMPTS;
+
+    @NonFinal
+    @Value("${app.email.outbox.lease-seconds:120}")
+    long LEASE_SECONDS;
+
+    @NonFinal
+    @Value("${app.email.outbox.backoff-initial-seconds:30}")
+    long BACKOFF_INITIAL_SECONDS;
+
+    @NonFinal
+    @Value("${app.email.outbox.backoff-max-seconds:3600}")
+    long BACKOFF_MAX_SECONDS;
+
+    // Upper bound on batches sent per poll, so one poll cannot monopolise the shared scheduler
+    @NonFinal
+    @Value("${app.email.outbox.max-batches-per-poll:20}")
+    int MAX_BATCHES_PER_POLL;
+
+    @NonFinal
+    @Value("${app.email.outbox.retention-days:7}")
+    long RETENTION_DAYS;
+
+    @NonFinal
+    volatile boolean missingSenderLogged;
+
+    public EmailDispatchServiceImpl(
+            EmailOutboxRepository emailOutboxRepository,
+            ObjectProvider<JavaMailSender> mailSenderProvider,
+            EmailTemplateService emailTemplateService,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry registry) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.mailSenderProvider = mailSenderProvider;
+        this.emailTemplateService = emailTemplateService;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.sent = outcomeCounter(registry, "sent");
+        this.retried = outcomeCounter(registry, "retry");
+        this.dead = outcomeCounter(registry, "dead");
+        this.batchTimer = Timer.builder("auth.email.outbox.batch")
+                .description("Time to deliver one batch of outbox emails")
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.email.outbox.poll-interval-ms:1000}")
+    public void scheduledDispatch() {
+        try {
+            // Keep draining while batches come back full, up to the per-poll limit
+            for (int batches = 0; batches < MAX_BATCHES_PER_POLL; batches++) {
+                if (dispatchDue() < BATCH_SIZE) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Email outbox dispatch failed: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${app.email.outbox.purge-cron:0 45 * * * *}")
+    public void scheduledPurge() {
+        try {
+            purgeFinished();
+        } catch (Exception e) {
+            log.error("Email outbox purge failed", e);
+        }
+    }
+
+    @Override
+    public int purgeFinished() {
+        int removed = emailOutboxRepository.deleteFinishedBefore(
+                FINISHED, LocalDateTime.now().minusDays(RETENTION_DAYS));
+        if (removed > 0) {
+            log.info("Purged {} finished outbox emails older than {} days", removed, RETENTION_DAYS);
+        }
+        return removed;
+    }
+
+    @Override
+    public int dispatchDue() {
+        JavaMailSender mailSender = mailSenderProvider.getIfAvailable();
+        if (mailSender == null) {
+            if (!missingSenderLogged) {
+                missingSenderLogged = true;
+                log.warn("JavaMailSender bean not configured. Outbox emails stay pending");
+            }
+            return 0;
+        }
+
+        List<EmailOutbox> batch = transactionTemplate.execute(status -> claimDueBatch());
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        batchTimer.record(() -> deliver(mailSender, batch));
+        transactionTemplate.executeWithoutResult(status -> emailOutboxRepository.saveAll(batch));
+        return batch.size();
+    }
+
+    private List<EmailOutbox> claimDueBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutbox> batch = emailOutboxRepository.lockDueBatch(now, BATCH_SIZE);
+        for (EmailOutbox email : batch) {
+            email.setAttempts(email.getAttempts() + 1);
+            email.setNextAttemptAt(now.plusSeconds(LEASE_SECONDS));
+        }
+        return batch;
+    }
+
+    private void deliver(JavaMailSender mailSender, List<EmailOutbox> batch) {
+        Map<MimeMessage, EmailOutbox> messages = new IdentityHashMap<>();
+        for (EmailOutbox email : batch) {
+            try {
+                messages.put(buildMessage(mailSender, email), email);
+            } catch (MessagingException | RuntimeException e) {
+                markFailed(email, e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Map<Object, Exception> failures = Map.of();
+        try {
+            mailSender.send(messages.keySet().toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages();
+        } catch (MailException e) {
+            // e.g. authentication failure: nothing in the batch went out
+            messages.values().forEach(email -> markFailed(email, e));
+            return;
+        }
+
+        for (Map.Entry<MimeMessage, EmailOutbox> entry : messages.entrySet()) {
+            Exception failure = failures.get(entry.getKey());
+            if (failure != null) {
+                markFailed(entry.getValue(), failure);
+            } else {
+                markSent(entry.getValue());
+            }
+        }
+    }
+
+    private MimeMessage buildMessage(JavaMailSender mailSender, EmailOutbox email) throws MessagingException {
+        Map<String, String> params;
+        try {
+            params = email.getParams() == null ? Map.of() : objectMapper.readValue(email.getParams(), PARAMS_TYPE);
+        } catch (Exception e) {
+            throw new IllegalStateException("Unreadable email parameters", e);
+        }
+
+        String locale = params.get(EmailServiceImpl.LOCALE_PARAM);
+        EmailTemplateService.RenderedEmail rendered = emailTemplateService.render(
+                email.getEmailType().getTemplate(), locale == null ? null : Locale.forLanguageTag(locale), params);
+
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, "utf-8");
+        helper.setTo(email.getRecipient());
+        helper.setSubject(rendered.subject());
+        // The body is already UTF-8 bytes, so hand them over without another String round trip
+        mimeMessage.setDataHandler(new DataHandler(new ByteArrayDataSource(rendered.htmlBody(), HTML_CONTENT_TYPE)));
+        return mimeMessage;
+    }
+
+    private void markSent(EmailOutbox email) {
+        email.setStatus(EmailOutbox.Status.SENT);
+        email.setSentAt(LocalDateTime.now());
+        email.setLastError(null);
+        email.setParams(null);
+        sent.increment();
+        log.info("{} email sent to: {}", email.getEmailType(), email.getRecipient());
+    }
+
+    private void markFailed(EmailOutbox email, Exception e) {
+        String error = String.valueOf(e.getMessage());
+        email.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+
+        if (email.getAttempts() >= MAX_ATTEMPTS) {
+            email.setStatus(EmailOutbox.Status.DEAD);
+            email.setParams(null);
+            dead.increment();
+            log.error(
+                    "Giving up on {} email to {} after {} attempts: {}",
+                    email.getEmailType(),
+                    email.getRecipient(),
+                    email.getAttempts(),
+                    error);
+            return;
+        }
+
+        email.setNextAttemptAt(LocalDateTime.now().plus(backoff(email.getAttempts())));
+        retried.increment();
+        log.warn(
+                "Failed to send {} email to {} (attempt {}): {}",
+                email.getEmailType(),
+                email.getRecipient(),
+                email.getAttempts(),
+                error);
+    }
+
+    // Exponential backoff with up to 20% jitter so retries of one outage do not arrive together
+    private Duration backoff(int attempts) {
+        long seconds = BACKOFF_INITIAL_SECONDS << Math.min(attempts - 1, 20);
+        seconds = Math.min(seconds, BACKOFF_MAX_SECONDS);
+        long jitter = ThreadLocalRandom.current().nextLong(seconds / 5 + 1);
+        return Duration.ofSeconds(seconds + jitter);
+    }
+
+    private static Counter outcomeCounter(MeterRegistry registry, String result) {
+        return Counter.builder("auth.email.outbox")
+                .tag("result", result)
+                .description("Outbox email delivery attempts by outcome")
+                .register(registry);
+    }
+}
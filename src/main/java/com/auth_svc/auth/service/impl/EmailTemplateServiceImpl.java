@@ -0,0 +1,234 @@
+package com.auth_svc.auth.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.ResourcePatternUtils;
+import org.springframework.stereotype.Service;
+
+import com.auth_svc.auth.service.EmailTemplateService;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Email templates loaded from {@code classpath:templates/email/<name>[_<locale>].html}. Each file
+ * starts with a {@code Subject:} line, a blank line, then the HTML body with {@code {{name}}}
+ * placeholders.
+ *
+ * <p>A template is parsed once into pre-encoded UTF-8 literal chunks and placeholder slots;
+ * rendering only copies bytes and escapes parameter values into a per-thread buffer. The MIME
+ * message around the body is still assembled by JavaMail on every send.
+ *
+ * <p>The template files are listed once at startup. A requested locale is resolved against that
+ * list, and compiled templates are cached per resolved file, so arbitrary Accept-Language tags
+ * cannot add cache entries.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class EmailTemplateServiceImpl implements EmailTemplateService {
+    static final String SUBJECT_PREFIX = "Subject:";
+
+    static final ThreadLocal<RenderBuffer> BUFFERS = ThreadLocal.withInitial(RenderBuffer::new);
+
+    ResourceLoader resourceLoader;
+    String location;
+
+    // Template file names without the .html suffix, e.g. verification_vi
+    Set<String> available;
+
+    // File name -> compiled template; bounded by the files in the template location
+    Map<String, CompiledTemplate> templates = new ConcurrentHashMap<>();
+
+    public EmailTemplateServiceImpl(
+            ResourceLoader resourceLoader,
+            @Value("${app.email.template-location:classpath:templates/email/}") String location) {
+        this.resourceLoader = resourceLoader;
+        this.location = location.endsWith("/") ? location : location + "/";
+        this.available = scan();
+    }
+
+    @Override
+    public RenderedEmail render(String templateName, Locale locale, Map<String, String> params) {
+        String file = resolve(templateName, locale == null ? Locale.ROOT : locale);
+        CompiledTemplate template = templates.computeIfAbsent(file, this::load);
+
+        RenderBuffer buffer = BUFFERS.get();
+        buffer.reset();
+        for (Segment segment : template.segments()) {
+            if (segment.literal() != null) {
+                buffer.write(segment.literal());
+            } else {
+                buffer.writeEscaped(params.get(segment.placeholder()));
+            }
+        }
+        return new RenderedEmail(template.subject(), buffer.toByteArray());
+    }
+
+    private Set<String> scan() {
+        try {
+            Resource[] resources = ResourcePatternUtils.getResourcePatternResolver(resourceLoader)
+                    .getResources(location + "*.html");
+            Set<String> names = new HashSet<>();
+            for (Resource resource : resources) {
+                String filename = resource.getFilename();
+                if (filename != null) {
+                    names.add(filename.substring(0, filename.length() - ".html".length()));
+                }
+            }
+            log.info("Found email templates {} in {}", names, location);
+            return Set.copyOf(names);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot list email templates in " + location, e);
+        }
+    }
+
+    // Most specific existing variant; unsupported locales fall back to the base template
+    private String resolve(String templateName, Locale locale) {
+        for (String candidate : candidates(templateName, locale)) {
+            if (available.contains(candidate)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("Email template not found: " + templateName);
+    }
+
+    private CompiledTemplate load(String file) {
+        Resource resource = resourceLoader.getResource(location + file + ".html");
+        try (InputStream in = resource.getInputStream()) {
+            CompiledTemplate template = compile(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            log.info("Compiled email template {}", file);
+            return template;
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read email template " + file, e);
+        }
+    }
+
+    // verification_vi_VN, verification_vi, verification
+    private static List<String> candidates(String templateName, Locale locale) {
+        List<String> candidates = new ArrayList<>(3);
+        if (!locale.getLanguage().isEmpty()) {
+            if (!locale.getCountry().isEmpty()) {
+                candidates.add(templateName + "_" + locale.getLanguage() + "_" + locale.getCountry());
+            }
+            candidates.add(templateName + "_" + locale.getLanguage());
+        }
+        candidates.add(templateName);
+        return candidates;
+    }
+
+    private static CompiledTemplate compile(String source) {
+        String subject = "";
+        String body = source;
+        if (source.startsWith(SUBJECT_PREFIX)) {
+            int endOfLine = source.indexOf('\n');
+            subject = source.substring(SUBJECT_PREFIX.length(), endOfLine < 0 ? source.length() : endOfLine)
+                    .trim();
+            body = endOfLine < 0 ? "" : source.substring(endOfLine + 1).stripLeading();
+        }
+
+        List<Segment> segments = new ArrayList<>();
+        int position = 0;
+        while (position < body.length()) {
+            int open = body.indexOf("{{", position);
+            int close = open < 0 ? -1 : body.indexOf("}}", open + 2);
+            if (open < 0 || close < 0) {
+                segments.add(Segment.literal(body.substring(position)));
+                break;
+            }
+            if (open > position) {
+                segments.add(Segment.literal(body.substring(position, open)));
+            }
+            segments.add(new Segment(null, body.substring(open + 2, close).trim()));
+            position = close + 2;
+        }
+        return new CompiledTemplate(subject, List.copyOf(segments));
+    }
+
+    private record CompiledTemplate(String subject, List<Segment> segments) {}
+
+    private record Segment(byte[] literal, String placeholder) {
+        static Segment literal(String text) {
+            return new Segment(text.getBytes(StandardCharsets.UTF_8), null);
+        }
+    }
+
+    /**
+     * Growable byte buffer reused across renders on the same thread. Values are HTML-escaped and
+     * UTF-8 encoded while being copied in.
+     */
+    private static final class RenderBuffer {
+        byte[] bytes = new byte[4096];
+        int length;
+
+        void reset() {
+            length = 0;
+        }
+
+        void write(byte[] chunk) {
+            ensureCapacity(chunk.length);
+            System.arraycopy(chunk, 0, bytes, length, chunk.length);
+            length += chunk.length;
+        }
+
+        void writeEscaped(String value) {
+            if (value == null) {
+                return;
+            }
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '&' -> writeAscii("&amp;");
+                    case '<' -> writeAscii("&lt;");
+                    case '>' -> writeAscii("&gt;");
+                    case '"' -> writeAscii("&quot;");
+                    case '\'' -> writeAscii("&#39;");
+                    default -> {
+                        if (c < 0x80) {
+                            ensureCapacity(1);
+                            bytes[length++] = (byte) c;
+                        } else {
+                            int end = i + 1;
+                            if (Character.isHighSurrogate(c) && end < value.length()) {
+                                end++;
+                            }
+                            write(value.substring(i, end).getBytes(StandardCharsets.UTF_8));
+                            i = end - 1;
+                        }
+                    }
+                }
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, length);
+        }
+
+        private void writeAscii(String text) {
+            ensureCapacity(text.length());
+            for (int i = 0; i < text.length(); i++) {
+                bytes[length++] = (byte) text.charAt(i);
+            }
+        }
+
+        private void ensureCapacity(int extra) {
+            if (length + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.auth_svc.auth.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.auth_svc.auth.entity.EventOutbox;
+import com.auth_svc.auth.repository.EventOutboxRepository;
+import com.auth_svc.auth.service.EventOutboxService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Transactional outbox for Kafka events. Events are inserted with the business change and only
+ * become visible to the relay once that transaction commits, so a rollback never produces an
+ * event and a Kafka outage never loses one.
+ *
+ * <p>The relay claims a batch with {@code FOR UPDATE SKIP LOCKED} (replicas share the work),
+ * leases it by pushing {@code next_attempt_at} forward, sends every record asynchronously and
+ * deletes the rows the broker acknowledged. Delivery is at-least-once.
+ *
+ * <p>Records are delivered in order per key: a batch holds at most the oldest outstanding row of
+ * each key, and a failed row blocks the rows behind it until it is delivered. A hot key therefore
+ * publishes one record per relay round, which is why the relay keeps draining while anything was
+ * due rather than only while batches come back full, up to {@code max-rounds-per-poll} rounds so
+ * a steady inflow cannot hold a scheduler thread forever.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class EventOutboxServiceImpl implements EventOutboxService {
+    static final int MAX_ERROR_LENGTH = 1000;
+
+    EventOutboxRepository eventOutboxRepository;
+    KafkaTemplate<String, Object> kafkaTemplate;
+    TransactionTemplate transactionTemplate;
+    ObjectMapper objectMapper;
+
+    Counter published;
+    Counter failed;
+
+    @NonFinal
+    @Value("${app.event-outbox.batch-size:200}")
+    int BATCH_SIZE;
+
+    @NonFinal
+    @Value("${app.event-outbox.lease-seconds:60}")
+    long LEASE_SECONDS;
+
+    @NonFinal
+    @Value("${app.event-outbox.send-timeout-ms:30000}")
+    long SEND_TIMEOUT_MS;
+
+    @NonFinal
+    @Value("${app.event-outbox.backoff-max-seconds:300}")
+    long BACKOFF_MAX_SECONDS;
+
+    @NonFinal
+    @Value("${app.event-outbox.max-rounds-per-poll:20}")
+    int MAX_ROUNDS_PER_POLL;
+
+    public EventOutboxServiceImpl(
+            EventOutboxRepository eventOutboxRepository,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry registry) {
+        this.eventOutboxRepository = eventOutboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.published = Counter.builder("auth.event.outbox")
+                .tag("result", "published")
+                .description("Outbox events acknowledged by Kafka")
+                .register(registry);
+        this.failed = Counter.builder("auth.event.outbox")
+                .tag("result", "failed")
+                .description("Outbox event sends that failed and will be retried")
+                .register(registry);
+    }
+
+    @Override
+    @Transactional
+    public void enqueue(String topic, String key, Object event) {
+        try {
+            eventOutboxRepository.save(EventOutbox.builder()
+                    .topic(topic)
+                    .eventKey(key)
+                    .eventType(event.getClass().getName())
+                    .payload(objectMapper.writeValueAsString(event))
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + topic + " event", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.event-outbox.poll-interval-ms:500}")
+    public void scheduledRelay() {
+        try {
+            // Keep draining while rows are due, up to the per-poll limit; each round unblocks the
+            // next row of every key sent
+            for (int rounds = 0; rounds < MAX_ROUNDS_PER_POLL; rounds++) {
+                if (relayDue() == 0) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Event outbox relay failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public int relayDue() {
+        List<EventOutbox> batch = transactionTemplate.execute(status -> claimDueBatch());
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<?>> sends = new ArrayList<>(batch.size());
+        for (EventOutbox event : batch) {
+            sends.add(send(event));
+        }
+
+        List<Long> delivered = new ArrayList<>(batch.size());
+        List<EventOutbox> retries = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            EventOutbox event = batch.get(i);
+            try {
+                sends.get(i).get(SEND_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                delivered.add(event.getId());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return batch.size();
+            } catch (Exception e) {
+                scheduleRetry(event, e);
+                retries.add(event);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            eventOutboxRepository.deleteAllByIdInBatch(delivered);
+            eventOutboxRepository.saveAll(retries);
+        });
+        published.increment(delivered.size());
+        failed.increment(retries.size());
+        return batch.size();
+    }
+
+    private List<EventOutbox> claimDueBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<EventOutbox> batch = eventOutboxRepository.lockDueBatch(now, BATCH_SIZE);
+        for (EventOutbox event : batch) {
+            event.setAttempts(event.getAttempts() + 1);
+            event.setNextAttemptAt(now.plusSeconds(LEASE_SECONDS));
+        }
+        return batch;
+    }
+
+    private CompletableFuture<?> send(EventOutbox event) {
+        try {
+            Object payload = objectMapper.readValue(event.getPayload(), Class.forName(event.getEventType()));
+            return kafkaTemplate.send(event.getTopic(), event.getEventKey(), payload);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void scheduleRetry(EventOutbox event, Exception e) {
+        Throwable cause = e.getCause() != null ? e.getCause() : e;
+        String error = String.valueOf(cause.getMessage());
+        event.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        event.setNextAttemptAt(LocalDateTime.now().plus(backoff(event.getAttempts())));
+        log.warn(
+                "Failed to publish outbox event {} to {} (attempt {}): {}",
+                event.getId(),
+                event.getTopic(),
+                event.getAttempts(),
+                error);
+    }
+
+    // Exponential backoff from one second with up to 20% jitter; events are never dropped
+    private Duration backoff(int attempts) {
+        long seconds = Math.min(1L << Math.min(attempts - 1, 20), BACKOFF_MAX_SECONDS);
+        long jitter = ThreadLocalRandom.current().nextLong(seconds * 200 + 1);
+        return Duration.ofSeconds(seconds).plusMillis(jitter);
+    }
+}
@@ -1,18 +1,11 @@
 package com.auth_svc.auth.service.impl;
 
-import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
-import java.util.Date;
 import java.util.HashSet;
-import java.util.StringJoiner;
 import java.util.UUID;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.CollectionUtils;
 
 import com.auth_svc.auth.constant.PredefinedRole;
 import com.auth_svc.auth.dto.request.GoogleAuthRequest;
@@ -24,20 +17,14 @@ import com.auth_svc.auth.exception.ErrorCode;
 import com.auth_svc.auth.repository.RoleRepository;
 import com.auth_svc.auth.repository.UserRepository;
 import com.auth_svc.auth.service.GoogleOAuthService;
+import com.auth_svc.auth.service.PasswordHashingService;
+import com.auth_svc.auth.service.TokenIssuerService;
 import com.auth_svc.event.UserEventProducer;
 import com.auth_svc.event.UserRegisteredEvent;
-import com.nimbusds.jose.JOSEException;
-import com.nimbusds.jose.JWSAlgorithm;
-import com.nimbusds.jose.JWSHeader;
-import com.nimbusds.jose.JWSObject;
-import com.nimbusds.jose.Payload;
-import com.nimbusds.jose.crypto.MACSigner;
-import com.nimbusds.jwt.JWTClaimsSet;
 
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
-import lombok.experimental.NonFinal;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
@@ -48,15 +35,8 @@ public class GoogleOAuthServiceImpl implements GoogleOAuthService {
     UserEventProducer userEventProducer;
     UserRepository userRepository;
     RoleRepository roleRepository;
-    PasswordEncoder passwordEncoder;
-
-    @NonFinal
-    @Value("${jwt.signerKey}")
-    String SIGNER_KEY;
-
-    @NonFinal
-    @Value("${jwt.valid-duration}")
-    long VALID_DURATION;
+    PasswordHashingService passwordHashingService;
+    TokenIssuerService tokenIssuerService;
 
     @Override
     @Transactional
@@ -109,14 +89,7 @@ public class GoogleOAuthServiceImpl implements GoogleOAuthService {
                 .build();
         userEventProducer.publishUserRegisteredEvent(userRegisteredEvent);
 
-        // Generate JWT token
-        String token = generateToken(user);
-
-        return AuthenticationResponse.builder()
-                .token(token)
-                .expiryTime(new Date(
-                        Instant.now().plus(VALID_DURATION, ChronoUnit.SECONDS).toEpochMilli()))
-                .build();
+        return tokenIssuerService.issue(user);
     }
 
     private User createNewGoogleUser(String googleId, String email, String name, String pictureUrl) {
@@ -133,7 +106,7 @@ public class GoogleOAuthServiceImpl implements GoogleOAuthService {
                 .avatarUrl(pictureUrl)
                 .emailVerified(true)
                 .authProvider(User.AuthProvider.GOOGLE)
-                .password(passwordEncoder.encode(randomPassword))
+                .password(passwordHashingService.encode(randomPassword))
                 .roles(roles)
                 .build();
     }
@@ -157,42 +130,4 @@ public class GoogleOAuthServiceImpl implements GoogleOAuthService {
             log.info("Updated user profile for: {}", user.getEmail());
         }
     }
-
-    private String generateToken(User user) {
-        JWSHeader header = new JWSHeader(JWSAlgorithm.HS512);
-
-        JWTClaimsSet jwtClaimsSet = new JWTClaimsSet.Builder()
-                .subject(user.getId())
-                .issuer("school.edu")
-                .issueTime(new Date())
-                .expirationTime(new Date(
-                        Instant.now().plus(VALID_DURATION, ChronoUnit.SECONDS).toEpochMilli()))
-                .jwtID(UUID.randomUUID().toString())
-                .claim("scope", buildScope(user))
-                .claim("email", user.getEmail())
-                .claim("emailVerified", user.isEmailVerified())
-                .claim("googleId", user.getGoogleId())
-                .build();
-
-        Payload payload = new Payload(jwtClaimsSet.toJSONObject());
-        JWSObject jwsObject = new JWSObject(header, payload);
-
-        try {
-            jwsObject.sign(new MACSigner(SIGNER_KEY.getBytes()));
-            return jwsObject.serialize();
-        } catch (JOSEException e) {
-            log.error("Cannot create token", e);
-            throw new RuntimeException(e);
-        }
-    }
-
-    private String buildScope(User user) {
-        StringJoiner stringJoiner = new StringJoiner(" ");
-
-        if (!CollectionUtils.isEmpty(user.getRoles())) {
-            user.getRoles().forEach(role -> stringJoiner.add("ROLE_" + role.getName()));
-        }
-
-        return stringJoiner.toString();
-    }
 }
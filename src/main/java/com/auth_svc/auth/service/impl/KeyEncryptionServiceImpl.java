@@ -0,0 +1,94 @@
+package com.auth_svc.auth.service.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Set;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.auth_svc.auth.service.KeyEncryptionService;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Envelope for signing key material stored in {@code jwt_signing_keys}. Secrets and private JWKs
+ * are sealed with AES-GCM under a key-encryption key that only lives in the service's
+ * configuration ({@code jwt.key-encryption-key}), so read access to the database alone is not
+ * enough to mint tokens.
+ */
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class KeyEncryptionServiceImpl implements KeyEncryptionService {
+    static final String PREFIX = "enc:v1:";
+    static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    static final int IV_LENGTH = 12;
+    static final int TAG_BITS = 128;
+    static final Set<Integer> KEY_LENGTHS = Set.of(16, 24, 32);
+
+    SecretKey keyEncryptionKey;
+    SecureRandom random = new SecureRandom();
+
+    public KeyEncryptionServiceImpl(@Value("${jwt.key-encryption-key}") String keyEncryptionKey) {
+        byte[] key;
+        try {
+            key = Base64.getDecoder().decode(keyEncryptionKey.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("jwt.key-encryption-key must be Base64", e);
+        }
+        if (!KEY_LENGTHS.contains(key.length)) {
+            throw new IllegalStateException("jwt.key-encryption-key must decode to a 128, 192 or 256-bit AES key");
+        }
+        this.keyEncryptionKey = new SecretKeySpec(key, "AES");
+    }
+
+    @Override
+    public String encrypt(String kid, String keyMaterial) {
+        byte[] iv = new byte[IV_LENGTH];
+        random.nextBytes(iv);
+        try {
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, keyEncryptionKey, new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+            byte[] ciphertext = cipher.doFinal(keyMaterial.getBytes(StandardCharsets.UTF_8));
+            byte[] sealed = ByteBuffer.allocate(iv.length + ciphertext.length)
+                    .put(iv)
+                    .put(ciphertext)
+                    .array();
+            return PREFIX + Base64.getEncoder().encodeToString(sealed);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot encrypt signing key '" + kid + "'", e);
+        }
+    }
+
+    @Override
+    public String decrypt(String kid, String storedValue) {
+        if (!isEncrypted(storedValue)) {
+            return storedValue;
+        }
+        try {
+            byte[] sealed = Base64.getDecoder().decode(storedValue.substring(PREFIX.length()));
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, keyEncryptionKey, new GCMParameterSpec(TAG_BITS, sealed, 0, IV_LENGTH));
+            cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+            byte[] plaintext = cipher.doFinal(sealed, IV_LENGTH, sealed.length - IV_LENGTH);
+            return new String(plaintext, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            // Wrong key-encryption key or a tampered row
+            throw new IllegalStateException("Cannot decrypt signing key '" + kid + "'", e);
+        }
+    }
+
+    @Override
+    public boolean isEncrypted(String storedValue) {
+        return storedValue != null && storedValue.startsWith(PREFIX);
+    }
+}
@@ -0,0 +1,134 @@
+package com.auth_svc.auth.service.impl;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.auth_svc.auth.exception.ErrorCode;
+import com.auth_svc.auth.exception.RetryableAppException;
+import com.auth_svc.auth.service.LoginRateLimiterService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory token buckets keyed by email and by client IP, checked before any password hashing
+ * or mail sending happens. Buckets are lock-free and live in size-bounded caches, so a flood of
+ * distinct emails or addresses cannot grow memory without limit.
+ *
+ * <p>Limits are written as {@code capacity/seconds}: {@code 5/60} allows a burst of 5 and then
+ * one request every 12 seconds.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class LoginRateLimiterServiceImpl implements LoginRateLimiterService {
+    Limiter loginByEmail;
+    Limiter loginByIp;
+    Limiter resendByEmail;
+    Limiter resendByIp;
+
+    public LoginRateLimiterServiceImpl(
+            MeterRegistry meterRegistry,
+            @Value("${app.rate-limit.max-tracked-keys:100000}") long maxTrackedKeys,
+            @Value("${app.rate-limit.login.per-email:5/60}") String loginPerEmail,
+            @Value("${app.rate-limit.login.per-ip:50/60}") String loginPerIp,
+            @Value("${app.rate-limit.resend-verification.per-email:3/600}") String resendPerEmail,
+            @Value("${app.rate-limit.resend-verification.per-ip:20/600}") String resendPerIp) {
+        this.loginByEmail = new Limiter("login", "email", loginPerEmail, maxTrackedKeys, meterRegistry);
+        this.loginByIp = new Limiter("login", "ip", loginPerIp, maxTrackedKeys, meterRegistry);
+        this.resendByEmail = new Limiter("resend_verification", "email", resendPerEmail, maxTrackedKeys, meterRegistry);
+        this.resendByIp = new Limiter("resend_verification", "ip", resendPerIp, maxTrackedKeys, meterRegistry);
+    }
+
+    @Override
+    public void checkLogin(String email, String clientIp) {
+        loginByIp.acquire(clientIp);
+        loginByEmail.acquire(normalize(email));
+    }
+
+    @Override
+    public void checkVerificationResend(String email, String clientIp) {
+        resendByIp.acquire(clientIp);
+        resendByEmail.acquire(normalize(email));
+    }
+
+    private static String normalize(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Limiter {
+        final long intervalNanos;
+        final long burstNanos;
+        final Cache<String, TokenBucket> buckets;
+        final Counter rejected;
+
+        Limiter(String limit, String keyType, String spec, long maxTrackedKeys, MeterRegistry meterRegistry) {
+            String[] parts = spec.split("/");
+            long capacity = Long.parseLong(parts[0].trim());
+            long periodNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(parts[1].trim()));
+            if (capacity <= 0 || periodNanos <= 0) {
+                throw new IllegalArgumentException("Invalid rate limit '" + spec + "' for " + limit + "/" + keyType);
+            }
+
+            this.intervalNanos = periodNanos / capacity;
+            this.burstNanos = intervalNanos * (capacity - 1);
+            // An idle bucket is full again after one period, so it can simply be dropped
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(maxTrackedKeys)
+                    .expireAfterAccess(Duration.ofNanos(periodNanos))
+                    .build();
+            this.rejected = Counter.builder("auth.rate_limit.rejected")
+                    .tag("limit", limit)
+                    .tag("key", keyType)
+                    .description("Requests rejected by the login rate limiter")
+                    .register(meterRegistry);
+        }
+
+        void acquire(String key) {
+            if (key == null || key.isEmpty()) {
+                return;
+            }
+
+            long waitNanos = buckets.get(key, k -> new TokenBucket()).tryAcquire(intervalNanos, burstNanos);
+            if (waitNanos > 0) {
+                rejected.increment();
+                throw new RetryableAppException(
+                        ErrorCode.TOO_MANY_REQUESTS, Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1));
+            }
+        }
+    }
+
+    /**
+     * Token bucket in its "theoretical arrival time" form: one CAS on a single long, no lock and
+     * no allocation per request.
+     */
+    private static final class TokenBucket {
+        final AtomicLong theoreticalArrival = new AtomicLong(System.nanoTime());
+
+        // 0 when a token was taken, otherwise the nanos until the next one is available
+        long tryAcquire(long intervalNanos, long burstNanos) {
+            while (true) {
+                long now = System.nanoTime();
+                long current = theoreticalArrival.get();
+                long next = Math.max(current, now);
+                long wait = next - now - burstNanos;
+                if (wait > 0) {
+                    return wait;
+                }
+                if (theoreticalArrival.compareAndSet(current, next + intervalNanos)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
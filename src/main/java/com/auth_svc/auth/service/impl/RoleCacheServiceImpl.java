@@ -0,0 +1,66 @@
+package com.auth_svc.auth.service.impl;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.auth_svc.auth.entity.Role;
+import com.auth_svc.auth.repository.RoleRepository;
+import com.auth_svc.auth.service.RoleCacheService;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Node-local copy of the roles table. Roles change only through the admin role API, which
+ * invalidates this node; other nodes pick the change up once the entry expires.
+ */
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class RoleCacheServiceImpl implements RoleCacheService {
+    static final String ALL_ROLES = "all";
+
+    // Single entry holding every role, so a miss is one query however many roles are asked for
+    LoadingCache<String, Map<String, Role>> roles;
+
+    public RoleCacheServiceImpl(
+            RoleRepository roleRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.role-cache.expire-seconds:300}") long expireSeconds) {
+        this.roles = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+                .recordStats()
+                .build(key -> roleRepository.findAll().stream()
+                        .collect(Collectors.toUnmodifiableMap(Role::getName, Function.identity())));
+        CaffeineCacheMetrics.monitor(meterRegistry, roles, "roles");
+    }
+
+    @Override
+    public Map<String, Role> getRoles() {
+        return roles.get(ALL_ROLES);
+    }
+
+    @Override
+    public void invalidate() {
+        roles.invalidateAll();
+        // A reload racing with the caller's transaction could still see the old rows
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    roles.invalidateAll();
+                }
+            });
+        }
+    }
+}
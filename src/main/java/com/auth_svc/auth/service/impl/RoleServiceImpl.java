@@ -10,6 +10,7 @@ import com.auth_svc.auth.dto.request.RoleRequest;
 import com.auth_svc.auth.dto.response.RoleResponse;
 import com.auth_svc.auth.entity.Role;
 import com.auth_svc.auth.repository.RoleRepository;
+import com.auth_svc.auth.service.RoleCacheService;
 import com.auth_svc.auth.service.RoleService;
 
 import lombok.AccessLevel;
@@ -21,6 +22,7 @@ import lombok.experimental.FieldDefaults;
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class RoleServiceImpl implements RoleService {
     RoleRepository roleRepository;
+    RoleCacheService roleCacheService;
 
     @Override
     @Transactional
@@ -29,10 +31,12 @@ public class RoleServiceImpl implements RoleService {
         role.setName(request.getName());
         role.setDescription(request.getDescription());
         role = roleRepository.save(role);
+        roleCacheService.invalidate();
         return toRoleResponse(role);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<RoleResponse> getAll() {
         return roleRepository.findAll().stream().map(this::toRoleResponse).collect(Collectors.toList());
     }
@@ -41,6 +45,7 @@ public class RoleServiceImpl implements RoleService {
     @Transactional
     public void delete(String role) {
         roleRepository.deleteById(role);
+        roleCacheService.invalidate();
     }
 
     private RoleResponse toRoleResponse(Role role) {
@@ -12,6 +12,7 @@ import com.auth_svc.auth.exception.AppException;
 import com.auth_svc.auth.exception.ErrorCode;
 import com.auth_svc.auth.repository.SchoolRepository;
 import com.auth_svc.auth.service.SchoolService;
+import com.auth_svc.event.ChangeEventProducer;
 
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,7 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class SchoolServiceImpl implements SchoolService {
     SchoolRepository schoolRepository;
+    ChangeEventProducer changeEventProducer;
 
     @Transactional
     @Override
@@ -40,10 +42,12 @@ public class SchoolServiceImpl implements SchoolService {
                 .build();
 
         school = schoolRepository.save(school);
+        changeEventProducer.publishSchoolChanged(school);
         return mapToResponse(school);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public SchoolResponse getSchoolById(Integer id) {
         log.info("Getting school by id: {}", id);
         School school = schoolRepository.findById(id).orElseThrow(() -> new AppException(ErrorCode.SCHOOL_NOT_FOUND));
@@ -78,6 +82,7 @@ public class SchoolServiceImpl implements SchoolService {
         school.setAddress(request.getAddress());
 
         school = schoolRepository.save(school);
+        changeEventProducer.publishSchoolChanged(school);
         return mapToResponse(school);
     }
 
@@ -88,9 +93,11 @@ public class SchoolServiceImpl implements SchoolService {
         School school = schoolRepository.findById(id).orElseThrow(() -> new AppException(ErrorCode.SCHOOL_NOT_FOUND));
         school.softDelete();
         schoolRepository.save(school);
+        changeEventProducer.publishSchoolChanged(school);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<SchoolResponse> getAllSchools(Pageable pageable) {
         log.info(
                 "Getting all schools with pagination - page: {}, size: {}",
@@ -100,6 +107,7 @@ public class SchoolServiceImpl implements SchoolService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<SchoolResponse> searchSchoolsByName(String name, Pageable pageable) {
         log.info("Searching schools by name: {} with pagination", name);
         return schoolRepository.findByNameContainingIgnoreCase(name, pageable).map(this::mapToResponse);
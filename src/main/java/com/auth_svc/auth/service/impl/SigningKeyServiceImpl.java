@@ -0,0 +1,497 @@
+package com.auth_svc.auth.service.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+
+import com.auth_svc.auth.dto.request.SigningKeyRequest;
+import com.auth_svc.auth.dto.response.SigningKeyResponse;
+import com.auth_svc.auth.entity.SigningKey;
+import com.auth_svc.auth.exception.AppException;
+import com.auth_svc.auth.exception.ErrorCode;
+import com.auth_svc.auth.repository.SigningKeyRepository;
+import com.auth_svc.auth.service.KeyEncryptionService;
+import com.auth_svc.auth.service.SigningKeyService;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.util.Base64URL;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Key ring for JWT signing and verification. Keys are stored in {@code jwt_signing_keys} and
+ * picked by the {@code kid} header; signers and verifiers are built once per key and shared
+ * between requests. Every replica reloads the ring periodically, and also on demand when a token
+ * arrives with a kid it does not know (at most once per {@code app.jwt.key-miss-reload-interval-ms}),
+ * so tokens signed with a key another node has just added or promoted are accepted right away.
+ *
+ * <p>HS512 keys hold a shared secret. RS256/ES256 keys hold a private JWK and their public
+ * halves are published as a JWK set so other services can verify tokens locally. Both are stored
+ * encrypted under the key-encryption key, see {@link KeyEncryptionServiceImpl}.
+ */
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@Slf4j
+public class SigningKeyServiceImpl implements SigningKeyService {
+    static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    static final Set<JWSAlgorithm> SUPPORTED_ALGORITHMS =
+            Set.of(JWSAlgorithm.HS512, JWSAlgorithm.RS256, JWSAlgorithm.ES256);
+
+    SigningKeyRepository signingKeyRepository;
+    KeyEncryptionService keyEncryptionService;
+
+    @NonFinal
+    @Value("${jwt.signerKey}")
+    String SIGNER_KEY;
+
+    // kid of the key bootstrapped from jwt.signerKey; also used for tokens issued without a kid header
+    @NonFinal
+    @Value("${jwt.signer-key-id:primary}")
+    String SIGNER_KEY_ID;
+
+    // Algorithm of the bootstrap key; for RS256/ES256 a key pair is generated instead of using jwt.signerKey
+    @NonFinal
+    @Value("${jwt.signing-algorithm:HS512}")
+    String SIGNING_ALGORITHM;
+
+    @NonFinal
+    @Value("${jwt.refreshable-duration}")
+    long REFRESHABLE_DURATION;
+
+    // Lower bound between reloads triggered by unknown kids, so forged kids cannot hammer the table
+    @NonFinal
+    @Value("${app.jwt.key-miss-reload-interval-ms:1000}")
+    long KEY_MISS_RELOAD_INTERVAL_MS;
+
+    AtomicLong lastMissReloadAt = new AtomicLong();
+
+    @NonFinal
+    volatile KeyRing keyRing = KeyRing.EMPTY;
+
+    @PostConstruct
+    void init() {
+        try {
+            if (signingKeyRepository.count() == 0) {
+                JWSAlgorithm algorithm = parseAlgorithm(SIGNING_ALGORITHM);
+                // A plain save would merge, letting a replica that starts a moment later overwrite the key pair
+                String secret = isHmac(algorithm) ? SIGNER_KEY : generateKeyPair(SIGNER_KEY_ID, algorithm);
+                int inserted = signingKeyRepository.insertActiveIfAbsent(
+                        SIGNER_KEY_ID,
+                        algorithm.getName(),
+                        keyEncryptionService.encrypt(SIGNER_KEY_ID, secret),
+                        LocalDateTime.now());
+                if (inserted > 0) {
+                    log.info("Bootstrapped {} signing key '{}'", algorithm, SIGNER_KEY_ID);
+                }
+            }
+            encryptStoredKeys();
+            reload();
+        } catch (Exception e) {
+            log.warn("Could not load signing keys from database, using jwt.signerKey only: {}", e.getMessage());
+            LoadedKey fallback =
+                    buildKey(SIGNER_KEY_ID, JWSAlgorithm.HS512, SIGNER_KEY, SigningKey.Status.ACTIVE, null);
+            keyRing = KeyRing.of(Map.of(SIGNER_KEY_ID, fallback), fallback);
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.jwt.key-refresh-interval-ms:30000}",
+            initialDelayString = "${app.jwt.key-refresh-interval-ms:30000}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("Signing key refresh failed, keeping current key ring: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public String sign(JWTClaimsSet claims) {
+        LoadedKey active = keyRing.active();
+        if (active == null) {
+            throw new IllegalStateException("No active signing key");
+        }
+
+        SignedJWT signedJWT = new SignedJWT(active.header(), claims);
+        try {
+            signedJWT.sign(active.signer());
+            return signedJWT.serialize();
+        } catch (JOSEException e) {
+            log.error("Cannot create token", e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public String sign(byte[] claimsJson) {
+        LoadedKey active = keyRing.active();
+        if (active == null) {
+            throw new IllegalStateException("No active signing key");
+        }
+
+        String signingInput = active.encodedHeader() + '.' + BASE64_URL.encodeToString(claimsJson);
+        try {
+            Base64URL signature =
+                    active.signer().sign(active.header(), signingInput.getBytes(StandardCharsets.US_ASCII));
+            return signingInput + '.' + signature;
+        } catch (JOSEException e) {
+            log.error("Cannot create token", e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public boolean verify(SignedJWT signedJWT) throws JOSEException {
+        String kid = signedJWT.getHeader().getKeyID();
+        LoadedKey key = keyRing.keys().get(kid != null ? kid : SIGNER_KEY_ID);
+        if (key == null && kid != null && reloadOnMiss()) {
+            key = keyRing.keys().get(kid);
+        }
+
+        if (key == null
+                || !key.header().getAlgorithm().equals(signedJWT.getHeader().getAlgorithm())) {
+            return false;
+        }
+        if (key.status() == SigningKey.Status.RETIRED && isPastVerificationWindow(key.retiredAt())) {
+            return false;
+        }
+
+        return signedJWT.verify(key.verifier());
+    }
+
+    @Override
+    public PublicJwkSet getPublicJwkSet() {
+        return keyRing.publicJwkSet();
+    }
+
+    @Override
+    public List<SigningKeyResponse> getKeys() {
+        return signingKeyRepository.findAll().stream()
+                .sorted(Comparator.comparing(SigningKey::getCreatedAt))
+                .map(this::toResponse)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public SigningKeyResponse addKey(SigningKeyRequest request) {
+        if (signingKeyRepository.existsById(request.getKid())) {
+            throw new AppException(ErrorCode.SIGNING_KEY_ALREADY_EXISTS);
+        }
+        JWSAlgorithm algorithm =
+                parseAlgorithm(request.getAlgorithm() != null ? request.getAlgorithm() : SIGNING_ALGORITHM);
+
+        String secret;
+        if (isHmac(algorithm)) {
+            secret = request.getSecret();
+        } else {
+            secret = request.getJwk() != null ? request.getJwk() : generateKeyPair(request.getKid(), algorithm);
+        }
+        if (secret == null) {
+            throw new AppException(ErrorCode.INVALID_SIGNING_KEY);
+        }
+
+        // Fails fast on key material that does not fit the algorithm
+        buildKey(request.getKid(), algorithm, secret, SigningKey.Status.NEXT, null);
+
+        SigningKey signingKey = signingKeyRepository.save(SigningKey.builder()
+                .kid(request.getKid())
+                .algorithm(algorithm.getName())
+                .secret(keyEncryptionService.encrypt(request.getKid(), secret))
+                .status(SigningKey.Status.NEXT)
+                .build());
+        log.info("Added {} signing key '{}'", algorithm, signingKey.getKid());
+
+        reload();
+        return toResponse(signingKey);
+    }
+
+    @Override
+    @Transactional
+    public SigningKeyResponse promoteKey(String kid) {
+        SigningKey signingKey =
+                signingKeyRepository.findById(kid).orElseThrow(() -> new AppException(ErrorCode.SIGNING_KEY_NOT_FOUND));
+        if (signingKey.getStatus() == SigningKey.Status.ACTIVE) {
+            return toResponse(signingKey);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        signingKeyRepository.findByStatus(SigningKey.Status.ACTIVE).forEach(current -> {
+            current.setStatus(SigningKey.Status.RETIRED);
+            current.setRetiredAt(now);
+            signingKeyRepository.save(current);
+            log.info("Retired signing key '{}'", current.getKid());
+        });
+
+        signingKey.setStatus(SigningKey.Status.ACTIVE);
+        signingKey.setActivatedAt(now);
+        signingKey.setRetiredAt(null);
+        signingKey = signingKeyRepository.save(signingKey);
+        log.info("Promoted signing key '{}' to active", kid);
+
+        reload();
+        return toResponse(signingKey);
+    }
+
+    @Override
+    @Transactional
+    public SigningKeyResponse retireKey(String kid) {
+        SigningKey signingKey =
+                signingKeyRepository.findById(kid).orElseThrow(() -> new AppException(ErrorCode.SIGNING_KEY_NOT_FOUND));
+        if (signingKey.getStatus() == SigningKey.Status.ACTIVE) {
+            throw new AppException(ErrorCode.ACTIVE_SIGNING_KEY_CANNOT_BE_RETIRED);
+        }
+        if (signingKey.getStatus() == SigningKey.Status.RETIRED) {
+            return toResponse(signingKey);
+        }
+
+        signingKey.setStatus(SigningKey.Status.RETIRED);
+        signingKey.setRetiredAt(LocalDateTime.now());
+        signingKey = signingKeyRepository.save(signingKey);
+        log.info("Retired signing key '{}'", kid);
+
+        reload();
+        return toResponse(signingKey);
+    }
+
+    // Rows written before key material was encrypted are sealed in place on startup
+    private void encryptStoredKeys() {
+        for (SigningKey signingKey : signingKeyRepository.findAll()) {
+            if (keyEncryptionService.isEncrypted(signingKey.getSecret())) {
+                continue;
+            }
+            String encrypted = keyEncryptionService.encrypt(signingKey.getKid(), signingKey.getSecret());
+            if (signingKeyRepository.replaceSecret(signingKey.getKid(), signingKey.getSecret(), encrypted) > 0) {
+                log.info("Encrypted stored key material of signing key '{}'", signingKey.getKid());
+            }
+        }
+    }
+
+    // Another node may have added or promoted the key since the last scheduled reload
+    private boolean reloadOnMiss() {
+        long now = System.currentTimeMillis();
+        long last = lastMissReloadAt.get();
+        if (now - last < KEY_MISS_RELOAD_INTERVAL_MS || !lastMissReloadAt.compareAndSet(last, now)) {
+            return false;
+        }
+        try {
+            reload();
+            return true;
+        } catch (Exception e) {
+            log.warn("Signing key reload for an unknown kid failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private synchronized void reload() {
+        KeyRing current = keyRing;
+        Map<String, LoadedKey> keys = new HashMap<>();
+        LoadedKey active = null;
+
+        for (SigningKey signingKey : signingKeyRepository.findAll()) {
+            if (signingKey.getStatus() == SigningKey.Status.RETIRED
+                    && isPastVerificationWindow(signingKey.getRetiredAt())) {
+                continue;
+            }
+
+            // Reuse the signer/verifier of keys we already know, only the status may have changed
+            String secret = keyEncryptionService.decrypt(signingKey.getKid(), signingKey.getSecret());
+            LoadedKey existing = current.keys().get(signingKey.getKid());
+            LoadedKey key = existing != null && existing.secret().equals(secret)
+                    ? existing.withStatus(signingKey.getStatus(), signingKey.getRetiredAt())
+                    : buildKey(
+                            signingKey.getKid(),
+                            parseAlgorithm(signingKey.getAlgorithm()),
+                            secret,
+                            signingKey.getStatus(),
+                            signingKey.getRetiredAt());
+
+            keys.put(key.kid(), key);
+            if (key.status() == SigningKey.Status.ACTIVE) {
+                active = key;
+            }
+        }
+
+        if (active == null) {
+            log.error("No active signing key in jwt_signing_keys, token issuance will fail");
+        }
+        keyRing = KeyRing.of(Map.copyOf(keys), active);
+    }
+
+    private LoadedKey buildKey(
+            String kid, JWSAlgorithm algorithm, String secret, SigningKey.Status status, LocalDateTime retiredAt) {
+        try {
+            JWSHeader header = new JWSHeader.Builder(algorithm).keyID(kid).build();
+
+            if (isHmac(algorithm)) {
+                byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+                return new LoadedKey(
+                        kid,
+                        secret,
+                        header,
+                        header.toBase64URL().toString(),
+                        new MACSigner(keyBytes),
+                        new MACVerifier(keyBytes),
+                        null,
+                        status,
+                        retiredAt);
+            }
+
+            JWK jwk = JWK.parse(secret);
+            if (!jwk.isPrivate() || !kid.equals(jwk.getKeyID())) {
+                throw new JOSEException("JWK must be a private key with kid '" + kid + "'");
+            }
+
+            JWK publicJwk = jwk.toPublicJWK();
+            if (JWSAlgorithm.RS256.equals(algorithm) && jwk instanceof RSAKey rsaKey) {
+                return new LoadedKey(
+                        kid,
+                        secret,
+                        header,
+                        header.toBase64URL().toString(),
+                        new RSASSASigner(rsaKey),
+                        new RSASSAVerifier(rsaKey.toRSAPublicKey()),
+                        publicJwk,
+                        status,
+                        retiredAt);
+            }
+            if (JWSAlgorithm.ES256.equals(algorithm) && jwk instanceof ECKey ecKey) {
+                return new LoadedKey(
+                        kid,
+                        secret,
+                        header,
+                        header.toBase64URL().toString(),
+                        new ECDSASigner(ecKey),
+                        new ECDSAVerifier(ecKey.toECPublicKey()),
+                        publicJwk,
+                        status,
+                        retiredAt);
+            }
+            throw new JOSEException("JWK type " + jwk.getKeyType() + " does not match " + algorithm);
+        } catch (JOSEException | ParseException e) {
+            log.warn("Invalid key material for signing key '{}': {}", kid, e.getMessage());
+            throw new AppException(ErrorCode.INVALID_SIGNING_KEY);
+        }
+    }
+
+    private String generateKeyPair(String kid, JWSAlgorithm algorithm) {
+        try {
+            JWK jwk = JWSAlgorithm.RS256.equals(algorithm)
+                    ? new RSAKeyGenerator(2048)
+                            .keyID(kid)
+                            .algorithm(algorithm)
+                            .keyUse(KeyUse.SIGNATURE)
+                            .generate()
+                    : new ECKeyGenerator(Curve.P_256)
+                            .keyID(kid)
+                            .algorithm(algorithm)
+                            .keyUse(KeyUse.SIGNATURE)
+                            .generate();
+            return jwk.toJSONString();
+        } catch (JOSEException e) {
+            log.error("Cannot generate {} key pair", algorithm, e);
+            throw new AppException(ErrorCode.INVALID_SIGNING_KEY);
+        }
+    }
+
+    private JWSAlgorithm parseAlgorithm(String name) {
+        JWSAlgorithm algorithm = JWSAlgorithm.parse(name);
+        if (!SUPPORTED_ALGORITHMS.contains(algorithm)) {
+            throw new AppException(ErrorCode.UNSUPPORTED_SIGNING_ALGORITHM);
+        }
+        return algorithm;
+    }
+
+    private boolean isHmac(JWSAlgorithm algorithm) {
+        return JWSAlgorithm.Family.HMAC_SHA.contains(algorithm);
+    }
+
+    private boolean isPastVerificationWindow(LocalDateTime retiredAt) {
+        return retiredAt != null && retiredAt.plusSeconds(REFRESHABLE_DURATION).isBefore(LocalDateTime.now());
+    }
+
+    private SigningKeyResponse toResponse(SigningKey signingKey) {
+        return SigningKeyResponse.builder()
+                .kid(signingKey.getKid())
+                .algorithm(signingKey.getAlgorithm())
+                .status(signingKey.getStatus())
+                .createdAt(signingKey.getCreatedAt())
+                .activatedAt(signingKey.getActivatedAt())
+                .retiredAt(signingKey.getRetiredAt())
+                .build();
+    }
+
+    private record KeyRing(Map<String, LoadedKey> keys, LoadedKey active, PublicJwkSet publicJwkSet) {
+        static final KeyRing EMPTY = of(Map.of(), null);
+
+        // The public JWK set only changes with the ring, so it is rendered once per reload
+        static KeyRing of(Map<String, LoadedKey> keys, LoadedKey active) {
+            List<JWK> publicKeys = keys.values().stream()
+                    .map(LoadedKey::publicJwk)
+                    .filter(Objects::nonNull)
+                    .sorted(Comparator.comparing(JWK::getKeyID))
+                    .toList();
+            String json = new JWKSet(publicKeys).toString(true);
+            String etag = "\"" + DigestUtils.md5DigestAsHex(json.getBytes(StandardCharsets.UTF_8)) + "\"";
+            return new KeyRing(keys, active, new PublicJwkSet(json, etag));
+        }
+    }
+
+    private record LoadedKey(
+            String kid,
+            String secret,
+            JWSHeader header,
+            // Base64URL of the header, computed once per key instead of once per token
+            String encodedHeader,
+            JWSSigner signer,
+            JWSVerifier verifier,
+            JWK publicJwk,
+            SigningKey.Status status,
+            LocalDateTime retiredAt) {
+
+        LoadedKey withStatus(SigningKey.Status status, LocalDateTime retiredAt) {
+            return new LoadedKey(kid, secret, header, encodedHeader, signer, verifier, publicJwk, status, retiredAt);
+        }
+    }
+}
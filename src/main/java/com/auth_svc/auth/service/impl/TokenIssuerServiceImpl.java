@@ -0,0 +1,184 @@
+package com.auth_svc.auth.service.impl;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Date;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+
+import com.auth_svc.auth.dto.response.AuthenticationResponse;
+import com.auth_svc.auth.entity.Role;
+import com.auth_svc.auth.entity.User;
+import com.auth_svc.auth.service.SigningKeyService;
+import com.auth_svc.auth.service.TokenIssuerService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Single place where access tokens are minted. The claims JSON is written directly with the
+ * constant issuer fragment pre-built, signed with the active key's pre-encoded header, and the
+ * JWT ID comes from a per-thread DRBG {@link SecureRandom}. {@link UUID#randomUUID()} and a plain
+ * {@code new SecureRandom()} are NativePRNG on Linux, and every NativePRNG instance reads through
+ * one synchronized source, so they would still serialize the minting threads. Scope strings are
+ * cached per role set.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TokenIssuerServiceImpl implements TokenIssuerService {
+    static final String ISSUER = "school.edu";
+
+    // Every token starts with the same issuer claim
+    static final String CLAIMS_PREFIX = "{\"iss\":\"" + ISSUER + "\",\"sub\":\"";
+
+    // DRBG keeps its state per instance; it only touches the shared entropy source when seeding
+    static final ThreadLocal<SecureRandom> JTI_RANDOM = ThreadLocal.withInitial(TokenIssuerServiceImpl::newDrbg);
+
+    static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = threadMxBean();
+
+    SigningKeyService signingKeyService;
+
+    // sorted role names -> "ROLE_A ROLE_B"
+    Cache<Set<String>, String> scopes = Caffeine.newBuilder().maximumSize(1_000).build();
+
+    long validDurationMillis;
+
+    Timer issueTimer;
+    DistributionSummary allocatedBytes;
+
+    public TokenIssuerServiceImpl(
+            SigningKeyService signingKeyService,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.valid-duration}") long validDuration) {
+        this.signingKeyService = signingKeyService;
+        this.validDurationMillis = validDuration * 1000;
+        this.issueTimer = Timer.builder("auth.token.issue")
+                .description("Time to build and sign an access token")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.allocatedBytes = DistributionSummary.builder("auth.token.issue.allocated")
+                .baseUnit("bytes")
+                .description("Heap allocated by the issuing thread per access token")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public AuthenticationResponse issue(User user) {
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = allocatedBytes(threadId);
+        long start = System.nanoTime();
+
+        long now = System.currentTimeMillis();
+        Date expiryTime = new Date(now + validDurationMillis);
+        String token = signingKeyService.sign(claimsJson(user, now / 1000, expiryTime.getTime() / 1000));
+
+        issueTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (allocatedBefore >= 0) {
+            allocatedBytes.record(allocatedBytes(threadId) - allocatedBefore);
+        }
+
+        return AuthenticationResponse.builder()
+                .token(token)
+                .expiryTime(expiryTime)
+                .build();
+    }
+
+    private byte[] claimsJson(User user, long issuedAt, long expiresAt) {
+        StringBuilder json = new StringBuilder(320).append(CLAIMS_PREFIX);
+        appendEscaped(json, user.getId());
+        json.append("\",\"iat\":").append(issuedAt);
+        json.append(",\"exp\":").append(expiresAt);
+        json.append(",\"jti\":\"").append(nextJwtId());
+        json.append("\",\"scope\":\"");
+        appendEscaped(json, buildScope(user));
+        json.append("\",\"email\":\"");
+        appendEscaped(json, user.getEmail());
+        json.append("\",\"emailVerified\":").append(user.isEmailVerified());
+        if (user.getGoogleId() != null) {
+            json.append(",\"googleId\":\"");
+            appendEscaped(json, user.getGoogleId());
+            json.append('"');
+        }
+        return json.append('}').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String buildScope(User user) {
+        if (CollectionUtils.isEmpty(user.getRoles())) {
+            return "";
+        }
+
+        Set<String> roleNames = new TreeSet<>();
+        for (Role role : user.getRoles()) {
+            roleNames.add(role.getName());
+        }
+        return scopes.get(roleNames, names -> "ROLE_" + String.join(" ROLE_", names));
+    }
+
+    // Random (version 4) UUID from this thread's own DRBG, so concurrent mints never share a lock
+    private static String nextJwtId() {
+        SecureRandom random = JTI_RANDOM.get();
+        long msb = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb).toString();
+    }
+
+    private static SecureRandom newDrbg() {
+        try {
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void appendEscaped(StringBuilder json, String value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+    }
+
+    private static long allocatedBytes(long threadId) {
+        return THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) : -1;
+    }
+
+    private static com.sun.management.ThreadMXBean threadMxBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()
+                && bean.isThreadAllocatedMemoryEnabled()) {
+            return bean;
+        }
+        log.info("Per-thread allocation accounting unavailable, auth.token.issue.allocated will stay empty");
+        return null;
+    }
+}
@@ -0,0 +1,225 @@
+package com.auth_svc.auth.service.impl;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.auth_svc.auth.service.TokenPurgeService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Lifecycle management for {@code invalidated_token}. When the table is range-partitioned by day on
+ * {@code expiry_time} (see V5 migration), upcoming partitions are created ahead of time and whole
+ * partitions are removed once every token in them is past its refresh window. Rows that end up in
+ * a default partition, or in a table that was never partitioned, are deleted instead.
+ *
+ * <p>Dropping an attached partition would take an ACCESS EXCLUSIVE lock on the parent and stall
+ * every revocation read and write. Expired partitions are therefore first detached with
+ * {@code DETACH PARTITION ... CONCURRENTLY}, each in its own autocommit statement outside the
+ * purge transaction, and only the detached table is dropped. PostgreSQL refuses a concurrent
+ * detach while the parent has a default partition, which V11 removes. A detach interrupted
+ * halfway is finished with {@code FINALIZE}, and a table detached but not yet dropped is picked
+ * up again on the next run.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TokenPurgeServiceImpl implements TokenPurgeService {
+    static final String TABLE = "invalidated_token";
+    static final String DEFAULT_PARTITION = TABLE + "_default";
+    static final Pattern PARTITION_NAME = Pattern.compile(TABLE + "_p(\\d{8})");
+    static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+    // Keeps replicas from running the purge at the same time
+    static final long PURGE_LOCK_KEY = 0x696e76746f6bL;
+
+    JdbcTemplate jdbcTemplate;
+    TransactionTemplate transactionTemplate;
+    Counter purgedRows;
+    Timer purgeTimer;
+
+    @NonFinal
+    @Value("${jwt.valid-duration}")
+    long VALID_DURATION;
+
+    @NonFinal
+    @Value("${jwt.refreshable-duration}")
+    long REFRESHABLE_DURATION;
+
+    // Without a default partition a revocation for a day that has no partition fails, so keep
+    // enough days ahead to ride out a few missed purge runs
+    @NonFinal
+    @Value("${app.revocation.partition-days-ahead:7}")
+    int PARTITION_DAYS_AHEAD;
+
+    public TokenPurgeServiceImpl(
+            JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, MeterRegistry registry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.purgedRows = Counter.builder("auth.revocation.purge.rows")
+                .description("Invalidated token rows removed by the purge job")
+                .register(registry);
+        this.purgeTimer = Timer.builder("auth.revocation.purge")
+                .description("Duration of the invalidated token purge job")
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.revocation.purge-cron:0 15 * * * *}")
+    public void scheduledPurge() {
+        try {
+            purgeExpiredTokens();
+        } catch (Exception e) {
+            log.error("Invalidated token purge failed", e);
+        }
+    }
+
+    @Override
+    public long purgeExpiredTokens() {
+        long start = System.nanoTime();
+
+        PurgePlan plan = transactionTemplate.execute(status -> {
+            Boolean locked =
+                    jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, PURGE_LOCK_KEY);
+            if (!Boolean.TRUE.equals(locked)) {
+                log.debug("Invalidated token purge already running on another node");
+                return PurgePlan.NOTHING;
+            }
+
+            // Tokens can still be refreshed until iat + REFRESHABLE_DURATION = expiry - VALID + REFRESHABLE
+            LocalDateTime cutoff = LocalDateTime.now().minusSeconds(Math.max(0, REFRESHABLE_DURATION - VALID_DURATION));
+
+            if (!isPartitioned()) {
+                return new PurgePlan(
+                        jdbcTemplate.update("DELETE FROM " + TABLE + " WHERE expiry_time < ?", cutoff), List.of());
+            }
+
+            createUpcomingPartitions(status);
+            long rows = hasDefaultPartition()
+                    ? jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + " WHERE expiry_time < ?", cutoff)
+                    : 0;
+            return new PurgePlan(rows, findExpiredPartitions(cutoff));
+        });
+
+        // DETACH ... CONCURRENTLY cannot run inside a transaction block
+        Long removed = plan == null ? null : plan.rows() + dropPartitions(plan.partitions());
+
+        long elapsed = System.nanoTime() - start;
+        purgeTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        purgedRows.increment(removed == null ? 0 : removed);
+        log.info("Purged {} invalidated tokens in {} ms", removed, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        return removed == null ? 0 : removed;
+    }
+
+    private boolean isPartitioned() {
+        Boolean partitioned = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table p JOIN pg_class c ON c.oid = p.partrelid"
+                        + " WHERE c.relname = ?)",
+                Boolean.class,
+                TABLE);
+        return Boolean.TRUE.equals(partitioned);
+    }
+
+    private boolean hasDefaultPartition() {
+        return jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, DEFAULT_PARTITION);
+    }
+
+    private void createUpcomingPartitions(TransactionStatus status) {
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i <= PARTITION_DAYS_AHEAD; i++) {
+            LocalDate day = today.plusDays(i);
+            // A failed CREATE (e.g. the default partition already holds rows for that day) must not
+            // abort the rest of the purge
+            Object savepoint = status.createSavepoint();
+            try {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(day) + " PARTITION OF " + TABLE
+                        + " FOR VALUES FROM ('" + day + "') TO ('" + day.plusDays(1) + "')");
+                status.releaseSavepoint(savepoint);
+            } catch (DataAccessException e) {
+                status.rollbackToSavepoint(savepoint);
+                log.warn("Could not create partition {}: {}", partitionName(day), e.getMessage());
+            }
+        }
+    }
+
+    // Daily tables past the cutoff, whether still attached, half-detached or already detached
+    private List<ExpiredPartition> findExpiredPartitions(LocalDateTime cutoff) {
+        List<ExpiredPartition> expired = new ArrayList<>();
+        jdbcTemplate.query(
+                "SELECT c.relname, c.relispartition, COALESCE(i.inhdetachpending, false) AS detach_pending"
+                        + " FROM pg_class c LEFT JOIN pg_inherits i ON i.inhrelid = c.oid"
+                        + " WHERE c.relkind = 'r' AND c.relname LIKE ? AND pg_table_is_visible(c.oid)",
+                rs -> {
+                    Matcher matcher = PARTITION_NAME.matcher(rs.getString("relname"));
+                    if (!matcher.matches()) {
+                        return;
+                    }
+                    // Every token in the partition expires before the start of the next day
+                    LocalDate day = LocalDate.parse(matcher.group(1), PARTITION_SUFFIX);
+                    if (!day.plusDays(1).atStartOfDay().isAfter(cutoff)) {
+                        expired.add(new ExpiredPartition(
+                                rs.getString("relname"),
+                                rs.getBoolean("relispartition"),
+                                rs.getBoolean("detach_pending")));
+                    }
+                },
+                TABLE + "_p%");
+        return expired;
+    }
+
+    // Runs outside any transaction: each statement autocommits, so the detach can run concurrently
+    private long dropPartitions(List<ExpiredPartition> partitions) {
+        long rows = 0;
+        for (ExpiredPartition partition : partitions) {
+            try {
+                Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM " + partition.name(), Long.class);
+                if (partition.detachPending()) {
+                    jdbcTemplate.execute(
+                            "ALTER TABLE " + TABLE + " DETACH PARTITION " + partition.name() + " FINALIZE");
+                } else if (partition.attached()) {
+                    jdbcTemplate.execute(
+                            "ALTER TABLE " + TABLE + " DETACH PARTITION " + partition.name() + " CONCURRENTLY");
+                }
+                // Only the detached table is locked now
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition.name());
+                rows += count == null ? 0 : count;
+                log.info("Dropped invalidated token partition {} ({} rows)", partition.name(), count);
+            } catch (DataAccessException e) {
+                // Retried on the next run; a half-finished detach is completed with FINALIZE then
+                log.warn("Could not drop invalidated token partition {}: {}", partition.name(), e.getMessage());
+            }
+        }
+        return rows;
+    }
+
+    private String partitionName(LocalDate day) {
+        return TABLE + "_p" + day.format(PARTITION_SUFFIX);
+    }
+
+    private record PurgePlan(long rows, List<ExpiredPartition> partitions) {
+        static final PurgePlan NOTHING = new PurgePlan(0, List.of());
+    }
+
+    private record ExpiredPartition(String name, boolean attached, boolean detachPending) {}
+}
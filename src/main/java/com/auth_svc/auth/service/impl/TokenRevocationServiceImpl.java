@@ -0,0 +1,201 @@
+package com.auth_svc.auth.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.auth_svc.auth.entity.InvalidatedToken;
+import com.auth_svc.auth.repository.InvalidatedTokenRepository;
+import com.auth_svc.auth.service.TokenRevocationService;
+import com.auth_svc.event.TokenEventProducer;
+import com.auth_svc.event.TokenRevokedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Node-local index of revoked JWT IDs kept in front of {@link InvalidatedTokenRepository}.
+ * A miss in the index means the token was never revoked, so the database is only
+ * consulted when the index reports a hit (or while the index is still warming up).
+ * Revocations made on other replicas arrive through the token.revoked topic.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+    InvalidatedTokenRepository invalidatedTokenRepository;
+    TokenEventProducer tokenEventProducer;
+
+    // jti -> epoch millis after which the token can no longer be used, even for refresh
+    Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    Counter filterHits;
+    Counter filterMisses;
+    Counter falsePositives;
+
+    @NonFinal
+    volatile boolean warmedUp;
+
+    @NonFinal
+    @Value("${jwt.valid-duration}")
+    long VALID_DURATION;
+
+    @NonFinal
+    @Value("${jwt.refreshable-duration}")
+    long REFRESHABLE_DURATION;
+
+    public TokenRevocationServiceImpl(
+            InvalidatedTokenRepository invalidatedTokenRepository,
+            TokenEventProducer tokenEventProducer,
+            MeterRegistry registry) {
+        this.invalidatedTokenRepository = invalidatedTokenRepository;
+        this.tokenEventProducer = tokenEventProducer;
+        this.filterHits = Counter.builder("auth.revocation.filter")
+                .tag("result", "hit")
+                .description("Revocation checks where the local index reported the token as revoked")
+                .register(registry);
+        this.filterMisses = Counter.builder("auth.revocation.filter")
+                .tag("result", "miss")
+                .description("Revocation checks answered from the local index without a database query")
+                .register(registry);
+        this.falsePositives = Counter.builder("auth.revocation.filter")
+                .tag("result", "false_positive")
+                .description("Index hits that the database did not confirm")
+                .register(registry);
+        Gauge.builder("auth.revocation.filter.size", revokedTokens, Map::size)
+                .description("Number of revoked token IDs held in the local index")
+                .register(registry);
+    }
+
+    @Override
+    public void revoke(String jti, String userId, Date expiryTime) {
+        invalidatedTokenRepository.save(
+                InvalidatedToken.builder().id(jti).expiryTime(expiryTime).build());
+        revokedTokens.put(jti, retainUntil(expiryTime));
+
+        tokenEventProducer.publishTokenRevokedEvent(TokenRevokedEvent.builder()
+                .jti(jti)
+                .userId(userId)
+                .expiresAt(expiryTime.getTime())
+                .build());
+    }
+
+    @Override
+    public void applyRevocation(String jti, Date expiryTime) {
+        revokedTokens.put(jti, retainUntil(expiryTime));
+    }
+
+    @Override
+    public boolean isRevoked(String jti) {
+        if (!warmedUp) {
+            return invalidatedTokenRepository.existsById(jti);
+        }
+
+        if (!revokedTokens.containsKey(jti)) {
+            filterMisses.increment();
+            return false;
+        }
+
+        filterHits.increment();
+        boolean revoked = invalidatedTokenRepository.existsById(jti);
+        if (!revoked) {
+            falsePositives.increment();
+        }
+        return revoked;
+    }
+
+    @Override
+    public Set<String> findRevoked(Collection<String> jtis) {
+        if (jtis.isEmpty()) {
+            return Set.of();
+        }
+        if (!warmedUp) {
+            return invalidatedTokenRepository.findExistingIds(jtis);
+        }
+
+        List<String> candidates = new ArrayList<>();
+        for (String jti : jtis) {
+            if (revokedTokens.containsKey(jti)) {
+                filterHits.increment();
+                candidates.add(jti);
+            } else {
+                filterMisses.increment();
+            }
+        }
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+
+        // One round trip confirms every hit in the batch
+        Set<String> revoked = invalidatedTokenRepository.findExistingIds(candidates);
+        falsePositives.increment(candidates.size() - revoked.size());
+        return revoked;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            int loaded = reload();
+            warmedUp = true;
+            log.info("Revocation index warmed up with {} token ids", loaded);
+        } catch (Exception e) {
+            log.warn("Could not warm up revocation index, falling back to database lookups: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Re-reads the unexpired rows so that revocations written by other replicas are picked up.
+     */
+    @Scheduled(
+            fixedDelayString = "${app.revocation.resync-interval-ms:30000}",
+            initialDelayString = "${app.revocation.resync-interval-ms:30000}")
+    public void resync() {
+        try {
+            reload();
+            warmedUp = true;
+        } catch (Exception e) {
+            log.warn("Revocation index resync failed: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.revocation.trim-interval-ms:60000}")
+    public void trimExpired() {
+        long now = System.currentTimeMillis();
+        int before = revokedTokens.size();
+        revokedTokens.values().removeIf(retainUntil -> retainUntil < now);
+        int removed = before - revokedTokens.size();
+        if (removed > 0) {
+            log.debug("Trimmed {} expired token ids from revocation index", removed);
+        }
+    }
+
+    private int reload() {
+        long retention = Math.max(0, REFRESHABLE_DURATION - VALID_DURATION) * 1000;
+        Date cutoff = new Date(System.currentTimeMillis() - retention);
+
+        var tokens = invalidatedTokenRepository.findByExpiryTimeAfter(cutoff);
+        tokens.forEach(token -> revokedTokens.putIfAbsent(token.getId(), retainUntil(token.getExpiryTime())));
+        return tokens.size();
+    }
+
+    // A revoked token stays relevant until its refresh window closes, not just until it expires
+    private long retainUntil(Date expiryTime) {
+        long retention = Math.max(0, REFRESHABLE_DURATION - VALID_DURATION) * 1000;
+        return expiryTime.getTime() + retention;
+    }
+}
@@ -0,0 +1,132 @@
+package com.auth_svc.auth.service.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.auth_svc.auth.exception.AppException;
+import com.auth_svc.auth.exception.ErrorCode;
+import com.auth_svc.auth.repository.UserRepository;
+import com.auth_svc.auth.repository.projection.UserWatermarkView;
+import com.auth_svc.auth.service.TokenWatermarkService;
+import com.auth_svc.event.TokenEventProducer;
+import com.auth_svc.event.TokenRevokedEvent;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-user "tokens valid after" watermark. Revoking every session of a user is a single row
+ * update; verification compares the token's {@code iat} with a node-local cached copy. Tokens
+ * issued in the same second as the revoke are treated as revoked.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TokenWatermarkServiceImpl implements TokenWatermarkService {
+    static final long NO_WATERMARK = Long.MIN_VALUE;
+
+    UserRepository userRepository;
+    TokenEventProducer tokenEventProducer;
+
+    // userId -> watermark in epoch millis, NO_WATERMARK when the user never revoked their sessions
+    LoadingCache<String, Long> watermarks;
+
+    public TokenWatermarkServiceImpl(
+            UserRepository userRepository,
+            TokenEventProducer tokenEventProducer,
+            MeterRegistry meterRegistry,
+            @Value("${app.revocation.watermark-cache.maximum-size:100000}") long maximumSize,
+            @Value("${app.revocation.watermark-cache.refresh-seconds:60}") long refreshSeconds) {
+        this.userRepository = userRepository;
+        this.tokenEventProducer = tokenEventProducer;
+        this.watermarks = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(Duration.ofSeconds(refreshSeconds))
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public Long load(String userId) {
+                        return userRepository
+                                .findTokensValidAfterById(userId)
+                                .map(Instant::toEpochMilli)
+                                .orElse(NO_WATERMARK);
+                    }
+
+                    // Used by getAll: one IN query for every user of a batch that is not cached yet
+                    @Override
+                    public Map<String, Long> loadAll(Set<? extends String> userIds) {
+                        Map<String, Long> loaded = new HashMap<>();
+                        userIds.forEach(userId -> loaded.put(userId, NO_WATERMARK));
+                        for (UserWatermarkView view : userRepository.findTokensValidAfterByIds(Set.copyOf(userIds))) {
+                            loaded.put(
+                                    view.getUserId(), view.getTokensValidAfter().toEpochMilli());
+                        }
+                        return loaded;
+                    }
+                });
+        CaffeineCacheMetrics.monitor(meterRegistry, watermarks, "token.watermark");
+    }
+
+    @Override
+    public void revokeAllSessions(String userId) {
+        // iat has second precision, so the watermark is rounded up to the next second: a token
+        // issued earlier in this second (e.g. a refresh racing the revoke) is revoked too. The
+        // price is that a login later in the same second is also rejected and has to retry.
+        Instant validAfter = Instant.now().truncatedTo(ChronoUnit.SECONDS).plusSeconds(1);
+
+        if (userRepository.updateTokensValidAfter(userId, validAfter) == 0) {
+            throw new AppException(ErrorCode.USER_NOT_EXISTED);
+        }
+
+        applyWatermark(userId, validAfter);
+        tokenEventProducer.publishTokenRevokedEvent(TokenRevokedEvent.builder()
+                .userId(userId)
+                .validAfter(validAfter.toEpochMilli())
+                .build());
+        log.info("Revoked all sessions of user {} issued before {}", userId, validAfter);
+    }
+
+    @Override
+    public boolean isIssuedBeforeWatermark(String userId, Date issueTime) {
+        if (userId == null) {
+            return false;
+        }
+
+        long watermark = watermarks.get(userId);
+        if (watermark == NO_WATERMARK) {
+            return false;
+        }
+        return issueTime == null || issueTime.getTime() < watermark;
+    }
+
+    @Override
+    public Map<String, Instant> findWatermarks(Collection<String> userIds) {
+        Map<String, Instant> result = new HashMap<>();
+        watermarks.getAll(userIds).forEach((userId, watermark) -> {
+            if (watermark != NO_WATERMARK) {
+                result.put(userId, Instant.ofEpochMilli(watermark));
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void applyWatermark(String userId, Instant validAfter) {
+        watermarks.asMap().merge(userId, validAfter.toEpochMilli(), Math::max);
+    }
+}
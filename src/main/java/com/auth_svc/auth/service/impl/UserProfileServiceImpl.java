@@ -19,7 +19,9 @@ import com.auth_svc.auth.exception.AppException;
 import com.auth_svc.auth.exception.ErrorCode;
 import com.auth_svc.auth.repository.SchoolRepository;
 import com.auth_svc.auth.repository.UserProfileRepository;
+import com.auth_svc.auth.repository.projection.UserProfileSummary;
 import com.auth_svc.auth.service.UserProfileService;
+import com.auth_svc.event.ChangeEventProducer;
 
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -33,6 +35,7 @@ import lombok.extern.slf4j.Slf4j;
 public class UserProfileServiceImpl implements UserProfileService {
     UserProfileRepository userProfileRepository;
     SchoolRepository schoolRepository;
+    ChangeEventProducer changeEventProducer;
 
     @Transactional
     @Override
@@ -58,6 +61,7 @@ public class UserProfileServiceImpl implements UserProfileService {
             userProfile.setSchool(school);
         }
         userProfile = userProfileRepository.save(userProfile);
+        changeEventProducer.publishUserProfileChanged(userProfile);
         return mapToResponse(userProfile);
     }
 
@@ -108,10 +112,12 @@ public class UserProfileServiceImpl implements UserProfileService {
         }
 
         userProfile = userProfileRepository.save(userProfile);
+        changeEventProducer.publishUserProfileChanged(userProfile);
         return mapToResponse(userProfile);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UserProfileResponse getUserProfileById(Integer id) {
         log.info("Getting user profile by id: {}", id);
         UserProfile userProfile = userProfileRepository
@@ -121,6 +127,7 @@ public class UserProfileServiceImpl implements UserProfileService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UserProfileResponse getUserProfileByAccountId(String accountId) {
         log.info("Getting user profile by account ID: {}", accountId);
         UserProfile userProfile = userProfileRepository
@@ -130,6 +137,7 @@ public class UserProfileServiceImpl implements UserProfileService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<UserProfileResponse> getAllUserProfiles() {
         log.info("Getting all user profiles");
         return userProfileRepository.findAll().stream().map(this::mapToResponse).collect(Collectors.toList());
@@ -204,6 +212,7 @@ public class UserProfileServiceImpl implements UserProfileService {
         }
 
         userProfile = userProfileRepository.save(userProfile);
+        changeEventProducer.publishUserProfileChanged(userProfile);
         return mapToResponse(userProfile);
     }
 
@@ -216,6 +225,7 @@ public class UserProfileServiceImpl implements UserProfileService {
                 .orElseThrow(() -> new AppException(ErrorCode.USER_PROFILE_NOT_FOUND));
         userProfile.softDelete();
         userProfileRepository.save(userProfile);
+        changeEventProducer.publishUserProfileChanged(userProfile);
     }
 
     @Transactional
@@ -264,6 +274,7 @@ public class UserProfileServiceImpl implements UserProfileService {
         }
 
         userProfile = userProfileRepository.save(userProfile);
+        changeEventProducer.publishUserProfileChanged(userProfile);
         log.info("User profile updated successfully for accountId: {}", accountId);
         return mapToResponse(userProfile);
     }
@@ -271,26 +282,26 @@ public class UserProfileServiceImpl implements UserProfileService {
     @Override
     public Page<UserProfileResponse> getAllUserProfiles(Pageable pageable) {
         log.info("Getting all user profiles with pagination");
-        return userProfileRepository.findAll(pageable).map(this::mapToResponse);
+        return userProfileRepository.findAllSummaries(pageable).map(this::mapToResponse);
     }
 
     @Override
     public Page<UserProfileResponse> getUserProfilesBySchool(Integer schoolId, Pageable pageable) {
         log.info("Getting user profiles by school ID: {} with pagination", schoolId);
-        return userProfileRepository.findBySchoolId(schoolId, pageable).map(this::mapToResponse);
+        return userProfileRepository.findSummariesBySchoolId(schoolId, pageable).map(this::mapToResponse);
     }
 
     @Override
     public Page<UserProfileResponse> getUserProfilesByRole(String role, Pageable pageable) {
         log.info("Getting user profiles by role: {} with pagination", role);
-        return userProfileRepository.findByRole(role, pageable).map(this::mapToResponse);
+        return userProfileRepository.findSummariesByRole(role, pageable).map(this::mapToResponse);
     }
 
     @Override
     public Page<UserProfileResponse> getUserProfilesBySchoolAndRole(Integer schoolId, String role, Pageable pageable) {
         log.info("Getting user profiles by school ID: {} and role: {} with pagination", schoolId, role);
         return userProfileRepository
-                .findBySchoolIdAndRole(schoolId, role, pageable)
+                .findSummariesBySchoolIdAndRole(schoolId, role, pageable)
                 .map(this::mapToResponse);
     }
 
@@ -298,7 +309,7 @@ public class UserProfileServiceImpl implements UserProfileService {
     @PreAuthorize("hasRole('ADMIN')")
     public Page<UserProfileResponse> getProfilesWithTeacherProof(Pageable pageable) {
         log.info("Getting user profiles with teacher proof with pagination");
-        return userProfileRepository.findProfilesWithTeacherProof(pageable).map(this::mapToResponse);
+        return userProfileRepository.findSummariesWithTeacherProof(pageable).map(this::mapToResponse);
     }
 
     @Override
@@ -306,10 +317,27 @@ public class UserProfileServiceImpl implements UserProfileService {
             Boolean teacherProofVerified, Pageable pageable) {
         log.info("Getting user profiles by teacherProofVerified={} with pagination", teacherProofVerified);
         return userProfileRepository
-                .findByTeacherProofVerified(teacherProofVerified, pageable)
+                .findSummariesByTeacherProofVerified(teacherProofVerified, pageable)
                 .map(this::mapToResponse);
     }
 
+    private UserProfileResponse mapToResponse(UserProfileSummary summary) {
+        return UserProfileResponse.builder()
+                .id(summary.id())
+                .accountId(summary.accountId())
+                .schoolId(summary.schoolId())
+                .schoolName(summary.schoolName())
+                .fullName(summary.fullName())
+                .dateOfBirth(summary.dateOfBirth())
+                .avatarUrl(summary.avatarUrl())
+                .role(summary.role())
+                .teacherProofUrl(summary.teacherProofUrl())
+                .teacherProofVerified(summary.teacherProofVerified())
+                .createdAt(summary.createdAt())
+                .updatedAt(summary.updatedAt())
+                .build();
+    }
+
     private UserProfileResponse mapToResponse(UserProfile userProfile) {
         return UserProfileResponse.builder()
                 .id(userProfile.getId())
@@ -0,0 +1,364 @@
+package com.auth_svc.auth.service.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.annotation.PreDestroy;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import com.auth_svc.auth.dto.response.ReplayStatusResponse;
+import com.auth_svc.auth.entity.ReplayCheckpoint;
+import com.auth_svc.auth.exception.AppException;
+import com.auth_svc.auth.exception.ErrorCode;
+import com.auth_svc.auth.repository.ReplayCheckpointRepository;
+import com.auth_svc.auth.repository.UserRepository;
+import com.auth_svc.auth.repository.projection.UserRegistrationView;
+import com.auth_svc.auth.service.UserReplayService;
+import com.auth_svc.event.UserEventProducer;
+import com.auth_svc.event.UserRegisteredEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Replays user.registered for every existing user so new consumers can catch up.
+ *
+ * <p>Users are read in keyset pages ordered by id, so every page is an index range scan no matter
+ * how deep the replay is. Sends are pipelined: the next page is read and sent while the previous
+ * one is still being acknowledged, with a semaphore bounding the records in flight so the replay
+ * never fills the producer buffer that live events share. A page is checkpointed only once all of
+ * its records are acknowledged, so a stopped or failed replay resumes without gaps (records after
+ * the checkpoint may be sent twice). The job runs on one background thread and is throttled to
+ * app.replay.max-events-per-second.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class UserReplayServiceImpl implements UserReplayService {
+    static final String JOB_NAME = "user.registered";
+    // Lets consumers tell replayed registrations from live ones
+    static final String REPLAY_HEADER = "auth-replay";
+    static final long PROGRESS_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    UserRepository userRepository;
+    ReplayCheckpointRepository replayCheckpointRepository;
+    KafkaTemplate<String, Object> kafkaTemplate;
+    Counter replayed;
+
+    String owner = UUID.randomUUID().toString();
+    ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "user-replay");
+        thread.setDaemon(true);
+        return thread;
+    });
+    AtomicBoolean running = new AtomicBoolean();
+
+    @NonFinal
+    volatile boolean stopRequested;
+
+    @NonFinal
+    volatile long runStartedNanos;
+
+    @NonFinal
+    volatile long runProcessed;
+
+    @NonFinal
+    @Value("${app.replay.page-size:1000}")
+    int PAGE_SIZE;
+
+    @NonFinal
+    @Value("${app.replay.max-in-flight:2000}")
+    int MAX_IN_FLIGHT;
+
+    @NonFinal
+    @Value("${app.replay.max-events-per-second:20000}")
+    long MAX_EVENTS_PER_SECOND;
+
+    @NonFinal
+    @Value("${app.replay.send-timeout-ms:30000}")
+    long SEND_TIMEOUT_MS;
+
+    @NonFinal
+    @Value("${app.replay.lease-seconds:120}")
+    long LEASE_SECONDS;
+
+    public UserReplayServiceImpl(
+            UserRepository userRepository,
+            ReplayCheckpointRepository replayCheckpointRepository,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            MeterRegistry registry) {
+        this.userRepository = userRepository;
+        this.replayCheckpointRepository = replayCheckpointRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.replayed = Counter.builder("auth.replay.events")
+                .tag("job", JOB_NAME)
+                .description("Events acknowledged by Kafka during replays")
+                .register(registry);
+    }
+
+    @Override
+    public ReplayStatusResponse start(boolean restart) {
+        if (!running.compareAndSet(false, true)) {
+            throw new AppException(ErrorCode.REPLAY_ALREADY_RUNNING);
+        }
+        try {
+            ReplayCheckpoint checkpoint = claimCheckpoint(restart);
+
+            stopRequested = false;
+            runProcessed = 0;
+            runStartedNanos = System.nanoTime();
+            ReplayCheckpoint claimed = checkpoint;
+            executor.execute(() -> run(claimed));
+
+            log.info(
+                    "Started {} replay from key {} ({} already processed)",
+                    JOB_NAME,
+                    claimed.getLastKey(),
+                    claimed.getProcessed());
+            return toResponse(claimed);
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    @Override
+    public ReplayStatusResponse stop() {
+        if (running.get()) {
+            stopRequested = true;
+        }
+        return getStatus();
+    }
+
+    @Override
+    public ReplayStatusResponse getStatus() {
+        return replayCheckpointRepository
+                .findById(JOB_NAME)
+                .map(this::toResponse)
+                .orElseGet(() -> ReplayStatusResponse.builder()
+                        .jobName(JOB_NAME)
+                        .status(ReplayCheckpoint.Status.STOPPED)
+                        .build());
+    }
+
+    // Lets a running replay checkpoint its last page before the context closes
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        stopRequested = true;
+        executor.shutdown();
+        executor.awaitTermination(SEND_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private ReplayCheckpoint claimCheckpoint(boolean restart) {
+        replayCheckpointRepository.insertIfAbsent(JOB_NAME);
+        boolean completed = replayCheckpointRepository
+                .findById(JOB_NAME)
+                .map(checkpoint -> checkpoint.getStatus() == ReplayCheckpoint.Status.COMPLETED)
+                .orElse(false);
+
+        LocalDateTime now = LocalDateTime.now();
+        int claimed = replayCheckpointRepository.claim(
+                JOB_NAME, owner, now, now.minusSeconds(LEASE_SECONDS), ReplayCheckpoint.Status.RUNNING);
+        if (claimed == 0) {
+            throw new AppException(ErrorCode.REPLAY_ALREADY_RUNNING);
+        }
+        if (restart || completed) {
+            requireOwnership(replayCheckpointRepository.updateProgress(
+                    JOB_NAME, owner, null, 0, now, ReplayCheckpoint.Status.RUNNING));
+        }
+        requireOwnership(replayCheckpointRepository.markStarted(JOB_NAME, owner, now, ReplayCheckpoint.Status.RUNNING));
+        return replayCheckpointRepository
+                .findById(JOB_NAME)
+                .orElseThrow(() -> new AppException(ErrorCode.REPLAY_ALREADY_RUNNING));
+    }
+
+    // Another instance took the job over between our claim and this update
+    private void requireOwnership(int updated) {
+        if (updated == 0) {
+            throw new AppException(ErrorCode.REPLAY_ALREADY_RUNNING);
+        }
+    }
+
+    private void run(ReplayCheckpoint checkpoint) {
+        Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+        String cursor = checkpoint.getLastKey() != null ? checkpoint.getLastKey() : "";
+        long processed = checkpoint.getProcessed();
+        long lastLogNanos = System.nanoTime();
+        PendingPage previous = null;
+        try {
+            while (!stopRequested) {
+                List<UserRegistrationView> page = userRepository.findRegistrationsAfter(cursor, Limit.of(PAGE_SIZE));
+                if (page.isEmpty()) {
+                    break;
+                }
+
+                List<CompletableFuture<?>> sends = new ArrayList<>(page.size());
+                for (UserRegistrationView user : page) {
+                    sends.add(send(user, inFlight));
+                }
+                cursor = page.get(page.size() - 1).getId();
+                processed += page.size();
+
+                // Acknowledge the previous page while this one is in flight
+                if (previous != null) {
+                    commit(checkpoint, previous);
+                }
+                previous = new PendingPage(cursor, processed, sends);
+
+                throttle();
+                if (System.nanoTime() - lastLogNanos > PROGRESS_LOG_INTERVAL_NANOS) {
+                    lastLogNanos = System.nanoTime();
+                    log.info("{} replay: {} users, {} events/s", JOB_NAME, processed, String.format("%.0f", rate()));
+                }
+            }
+            if (previous != null) {
+                commit(checkpoint, previous);
+            }
+            finish(
+                    checkpoint,
+                    stopRequested ? ReplayCheckpoint.Status.STOPPED : ReplayCheckpoint.Status.COMPLETED,
+                    null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            finish(checkpoint, ReplayCheckpoint.Status.STOPPED, null);
+        } catch (LeaseLostException e) {
+            // The new owner continues from the last checkpoint; writing anything now would clobber it
+            log.warn("{} replay lost its lease after key {}, stopping", JOB_NAME, checkpoint.getLastKey());
+        } catch (Exception e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            log.warn("{} replay failed after key {}: {}", JOB_NAME, checkpoint.getLastKey(), cause.getMessage());
+            finish(checkpoint, ReplayCheckpoint.Status.FAILED, String.valueOf(cause.getMessage()));
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private CompletableFuture<?> send(UserRegistrationView user, Semaphore inFlight) throws InterruptedException {
+        UserRegisteredEvent event = UserRegisteredEvent.builder()
+                .userId(user.getId())
+                .email(user.getEmail())
+                .username(user.getUsername())
+                .timestamp(user.getCreatedAt())
+                .build();
+        ProducerRecord<String, Object> record =
+                new ProducerRecord<>(UserEventProducer.USER_REGISTERED_TOPIC, user.getId(), event);
+        record.headers().add(new RecordHeader(REPLAY_HEADER, "true".getBytes(StandardCharsets.UTF_8)));
+
+        inFlight.acquire();
+        try {
+            return kafkaTemplate.send(record).whenComplete((result, error) -> inFlight.release());
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    // Waits for every record of the page, then moves the checkpoint past it
+    private void commit(ReplayCheckpoint checkpoint, PendingPage page) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SEND_TIMEOUT_MS);
+        for (CompletableFuture<?> send : page.sends()) {
+            send.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        }
+        int updated = replayCheckpointRepository.updateProgress(
+                JOB_NAME,
+                owner,
+                page.lastKey(),
+                page.processed(),
+                LocalDateTime.now(),
+                ReplayCheckpoint.Status.RUNNING);
+        if (updated == 0) {
+            throw new LeaseLostException();
+        }
+        checkpoint.setLastKey(page.lastKey());
+        checkpoint.setProcessed(page.processed());
+
+        runProcessed += page.sends().size();
+        replayed.increment(page.sends().size());
+    }
+
+    private void finish(ReplayCheckpoint checkpoint, ReplayCheckpoint.Status status, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            int updated = replayCheckpointRepository.finish(
+                    JOB_NAME,
+                    owner,
+                    status,
+                    now,
+                    status == ReplayCheckpoint.Status.COMPLETED ? now : null,
+                    error,
+                    ReplayCheckpoint.Status.RUNNING);
+            if (updated == 0) {
+                log.warn("{} replay was taken over by another instance, not marking it {}", JOB_NAME, status);
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("Could not save {} replay checkpoint: {}", JOB_NAME, e.getMessage());
+        }
+        log.info(
+                "{} replay {}: {} users in total, {} events/s",
+                JOB_NAME,
+                status,
+                checkpoint.getProcessed(),
+                String.format("%.0f", rate()));
+    }
+
+    // Sleeps until the run is back under the configured rate
+    private void throttle() throws InterruptedException {
+        if (MAX_EVENTS_PER_SECOND <= 0) {
+            return;
+        }
+        long expectedNanos = runProcessed * 1_000_000_000L / MAX_EVENTS_PER_SECOND;
+        long aheadNanos = expectedNanos - (System.nanoTime() - runStartedNanos);
+        if (aheadNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(aheadNanos);
+        }
+    }
+
+    private double rate() {
+        double seconds = (System.nanoTime() - runStartedNanos) / 1_000_000_000.0;
+        return seconds > 0 ? runProcessed / seconds : 0;
+    }
+
+    private ReplayStatusResponse toResponse(ReplayCheckpoint checkpoint) {
+        boolean runningHere = running.get() && owner.equals(checkpoint.getOwner());
+        return ReplayStatusResponse.builder()
+                .jobName(checkpoint.getJobName())
+                .status(checkpoint.getStatus())
+                .processed(checkpoint.getProcessed())
+                .lastKey(checkpoint.getLastKey())
+                .eventsPerSecond(runningHere ? rate() : null)
+                .startedAt(checkpoint.getStartedAt())
+                .updatedAt(checkpoint.getUpdatedAt())
+                .completedAt(checkpoint.getCompletedAt())
+                .lastError(checkpoint.getLastError())
+                .build();
+    }
+
+    private record PendingPage(String lastKey, long processed, List<CompletableFuture<?>> sends) {}
+
+    // Thrown when a checkpoint update finds the job owned by another instance
+    private static class LeaseLostException extends RuntimeException {
+        LeaseLostException() {
+            super(null, null, false, false);
+        }
+    }
+}
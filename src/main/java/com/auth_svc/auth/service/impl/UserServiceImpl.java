@@ -1,7 +1,10 @@
 package com.auth_svc.auth.service.impl;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -10,9 +13,9 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.auth_svc.auth.constant.PredefinedRole;
 import com.auth_svc.auth.dto.request.UserCreationRequest;
@@ -26,8 +29,12 @@ import com.auth_svc.auth.exception.ErrorCode;
 import com.auth_svc.auth.repository.RoleRepository;
 import com.auth_svc.auth.repository.UserProfileRepository;
 import com.auth_svc.auth.repository.UserRepository;
+import com.auth_svc.auth.repository.projection.UserRoleView;
 import com.auth_svc.auth.service.EmailService;
+import com.auth_svc.auth.service.PasswordHashingService;
+import com.auth_svc.auth.service.RoleCacheService;
 import com.auth_svc.auth.service.UserService;
+import com.auth_svc.event.ChangeEventProducer;
 import com.auth_svc.event.UserEventProducer;
 import com.auth_svc.event.UserRegisteredEvent;
 
@@ -44,22 +51,24 @@ public class UserServiceImpl implements UserService {
     UserRepository userRepository;
     RoleRepository roleRepository;
     UserProfileRepository userProfileRepository;
-    PasswordEncoder passwordEncoder;
+    PasswordHashingService passwordHashingService;
     UserEventProducer userEventProducer;
+    ChangeEventProducer changeEventProducer;
     EmailService emailService;
+    TransactionTemplate transactionTemplate;
+    RoleCacheService roleCacheService;
 
+    /**
+     * Registration runs in phases so the pooled connection is only held for the writes. The password
+     * is hashed first with no transaction open (a duplicate email costs one hash, which also keeps
+     * the response time the same for taken and free addresses). The existence check, insert and
+     * outbox rows then commit in one short transaction; the verification email and the
+     * user.registered event are delivered by their outbox relays after commit.
+     */
     @Override
-    @Transactional
     public UserResponse createUser(UserCreationRequest request) {
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new AppException(ErrorCode.USER_EXISTED);
-        }
-
         User user = toUser(request);
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
-        HashSet<Role> roles = new HashSet<>();
-        roleRepository.findById(PredefinedRole.USER_ROLE).ifPresent(roles::add);
-        user.setRoles(roles);
+        user.setPassword(passwordHashingService.encode(request.getPassword()));
         user.setEmailVerified(false);
         user.setAuthProvider(User.AuthProvider.LOCAL);
 
@@ -68,25 +77,39 @@ public class UserServiceImpl implements UserService {
         user.setVerificationToken(verificationToken);
         user.setVerificationTokenExpiry(LocalDateTime.now().plusHours(24));
 
+        User saved;
         try {
-            user = userRepository.save(user);
+            saved = transactionTemplate.execute(status -> register(user, verificationToken));
         } catch (DataIntegrityViolationException exception) {
             throw new AppException(ErrorCode.USER_EXISTED);
         }
 
-        // Send verification email
-        emailService.sendVerificationEmail(user.getEmail(), user.getUsername(), verificationToken);
+        return toUserResponse(saved);
+    }
+
+    private User register(User user, String verificationToken) {
+        if (userRepository.existsByEmail(user.getEmail())) {
+            throw new AppException(ErrorCode.USER_EXISTED);
+        }
+
+        HashSet<Role> roles = new HashSet<>();
+        roleRepository.findById(PredefinedRole.USER_ROLE).ifPresent(roles::add);
+        user.setRoles(roles);
+        User saved = userRepository.saveAndFlush(user);
+
+        // Queue verification email
+        emailService.sendVerificationEmail(saved.getEmail(), saved.getUsername(), verificationToken);
 
-        // Publish user.registered event to Kafka
+        // Queue user.registered event for Kafka
         UserRegisteredEvent userRegisteredEvent = UserRegisteredEvent.builder()
-                .userId(user.getId())
-                .email(user.getEmail())
-                .username(user.getUsername())
+                .userId(saved.getId())
+                .email(saved.getEmail())
+                .username(saved.getUsername())
                 .timestamp(LocalDateTime.now())
                 .build();
         userEventProducer.publishUserRegisteredEvent(userRegisteredEvent);
 
-        return toUserResponse(user);
+        return saved;
     }
 
     //    @Override
@@ -105,7 +128,7 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(userId).orElseThrow(() -> new AppException(ErrorCode.USER_NOT_EXISTED));
         updateUserFromRequest(user, request);
         if (request.getPassword() != null && !request.getPassword().isEmpty()) {
-            user.setPassword(passwordEncoder.encode(request.getPassword()));
+            user.setPassword(passwordHashingService.encode(request.getPassword()));
         }
         if (request.getRoles() != null && !request.getRoles().isEmpty()) {
             var roles = roleRepository.findAllById(request.getRoles());
@@ -134,26 +157,25 @@ public class UserServiceImpl implements UserService {
     @PreAuthorize("hasRole('ADMIN')")
     public Page<UserResponse> getUsers(Pageable pageable) {
         log.info("In method get Users with pagination");
-        return userRepository.findAll(pageable).map(this::toUserResponse);
+        return toUserResponses(userRepository.findAll(pageable));
     }
 
     @Override
     @PreAuthorize("hasRole('ADMIN')")
     public Page<UserResponse> searchUsersByEmail(String email, Pageable pageable) {
         log.info("Searching users by email: {} with pagination", email);
-        return userRepository.findByEmailContainingIgnoreCase(email, pageable).map(this::toUserResponse);
+        return toUserResponses(userRepository.findByEmailContainingIgnoreCase(email, pageable));
     }
 
     @Override
     @PreAuthorize("hasRole('ADMIN')")
     public Page<UserResponse> searchUsersByUsername(String username, Pageable pageable) {
         log.info("Searching users by username: {} with pagination", username);
-        return userRepository
-                .findByUsernameContainingIgnoreCase(username, pageable)
-                .map(this::toUserResponse);
+        return toUserResponses(userRepository.findByUsernameContainingIgnoreCase(username, pageable));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UserResponse getUser(String id) {
         return toUserResponse(
                 userRepository.findById(id).orElseThrow(() -> new AppException(ErrorCode.USER_NOT_EXISTED)));
@@ -175,7 +197,9 @@ public class UserServiceImpl implements UserService {
             Role r = new Role();
             r.setName(PredefinedRole.TEACHER_ROLE);
             r.setDescription("Teacher role");
-            return roleRepository.save(r);
+            Role saved = roleRepository.save(r);
+            roleCacheService.invalidate();
+            return saved;
         });
 
         user.getRoles().add(teacherRole);
@@ -185,6 +209,7 @@ public class UserServiceImpl implements UserService {
         userProfileRepository.findByAccountId(userId).ifPresent(profile -> {
             profile.setTeacherProofVerified(true);
             userProfileRepository.save(profile);
+            changeEventProducer.publishUserProfileChanged(profile);
             log.info("Marked teacher proof as verified for user profile: {}", profile.getId());
         });
 
@@ -206,11 +231,53 @@ public class UserServiceImpl implements UserService {
         }
     }
 
+    /**
+     * Maps a page of users without touching their lazy roles: the role names of the whole page
+     * come from one query and the role rows from the shared role cache. A role this node has not
+     * cached yet (created on another node) reloads the cache once; if it is still missing, the
+     * role is shown by name rather than dropped.
+     */
+    private Page<UserResponse> toUserResponses(Page<User> users) {
+        if (users.isEmpty()) {
+            return users.map(user -> toUserResponse(user, Set.of()));
+        }
+
+        List<String> userIds = users.map(User::getId).getContent();
+        List<UserRoleView> userRoles = userRepository.findRoleNamesByUserIds(userIds);
+        Map<String, Role> roles = cachedRoles(userRoles);
+        Map<String, Set<RoleResponse>> rolesByUser = new HashMap<>();
+        for (UserRoleView userRole : userRoles) {
+            Role role = roles.get(userRole.getRoleName());
+            RoleResponse roleResponse = role != null
+                    ? toRoleResponse(role)
+                    : RoleResponse.builder().name(userRole.getRoleName()).build();
+            rolesByUser
+                    .computeIfAbsent(userRole.getUserId(), id -> new HashSet<>())
+                    .add(roleResponse);
+        }
+        return users.map(user -> toUserResponse(user, rolesByUser.getOrDefault(user.getId(), Set.of())));
+    }
+
+    // Reloads the node-local role cache once if it lacks any of the given role names
+    private Map<String, Role> cachedRoles(List<UserRoleView> userRoles) {
+        Map<String, Role> roles = roleCacheService.getRoles();
+        for (UserRoleView userRole : userRoles) {
+            if (!roles.containsKey(userRole.getRoleName())) {
+                roleCacheService.invalidate();
+                return roleCacheService.getRoles();
+            }
+        }
+        return roles;
+    }
+
     private UserResponse toUserResponse(User user) {
         Set<RoleResponse> roleResponses = user.getRoles() == null
                 ? Set.of()
                 : user.getRoles().stream().map(this::toRoleResponse).collect(Collectors.toSet());
+        return toUserResponse(user, roleResponses);
+    }
 
+    private UserResponse toUserResponse(User user, Set<RoleResponse> roleResponses) {
         return UserResponse.builder()
                 .id(user.getId())
                 .username(user.getUsername())
@@ -0,0 +1,52 @@
+package com.auth_svc.event;
+
+import java.io.IOException;
+
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * Reads Avro single-object encoded events and hands anything else to the fallback deserializer,
+ * so a consumer keeps working while its topic is switched from JSON to Avro.
+ */
+public class AvroEventDeserializer<T> implements Deserializer<T> {
+    // Single-object encoding marker (Avro specification)
+    private static final byte MAGIC_0 = (byte) 0xC3;
+    private static final byte MAGIC_1 = (byte) 0x01;
+
+    private final BinaryMessageDecoder<T> decoder;
+    private final Deserializer<T> fallback;
+
+    public AvroEventDeserializer(Class<T> eventType, Deserializer<T> fallback) {
+        this.decoder = new BinaryMessageDecoder<>(AvroEventSchemas.MODEL, AvroEventSchemas.schemaFor(eventType));
+        this.fallback = fallback;
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        if (!isAvro(data)) {
+            return fallback.deserialize(topic, data);
+        }
+        try {
+            return decoder.decode(data);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Cannot read Avro record from " + topic, e);
+        }
+    }
+
+    @Override
+    public T deserialize(String topic, Headers headers, byte[] data) {
+        return isAvro(data) ? deserialize(topic, data) : fallback.deserialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        fallback.close();
+    }
+
+    private static boolean isAvro(byte[] data) {
+        return data != null && data.length > 2 && data[0] == MAGIC_0 && data[1] == MAGIC_1;
+    }
+}
@@ -0,0 +1,52 @@
+package com.auth_svc.event;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.avro.Schema;
+import org.apache.avro.data.TimeConversions;
+import org.apache.avro.reflect.ReflectData;
+
+/**
+ * Avro schemas for the events in this package, embedded in the jar under {@code /avro}. Records
+ * are written with Avro single-object encoding, so every payload starts with the 64-bit
+ * fingerprint of its writer schema and consumers resolve it against these same files instead of
+ * a schema registry.
+ *
+ * <p>Event classes are read and written reflectively: schema field names match the Java field
+ * names, and each schema's full name is the event class name.
+ */
+public final class AvroEventSchemas {
+    static final ReflectData MODEL = new ReflectData();
+
+    static {
+        MODEL.addLogicalTypeConversion(new TimeConversions.LocalTimestampMillisConversion());
+        MODEL.addLogicalTypeConversion(new TimeConversions.DateConversion());
+    }
+
+    private static final Map<Class<?>, Schema> SCHEMAS = new ConcurrentHashMap<>();
+
+    private AvroEventSchemas() {}
+
+    public static Schema schemaFor(Class<?> eventType) {
+        return SCHEMAS.computeIfAbsent(eventType, AvroEventSchemas::load);
+    }
+
+    private static Schema load(Class<?> eventType) {
+        String resource = "/avro/" + eventType.getSimpleName() + ".avsc";
+        try (InputStream in = AvroEventSchemas.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("No Avro schema for " + eventType.getName());
+            }
+            Schema schema = new Schema.Parser().parse(in);
+            if (!schema.getFullName().equals(eventType.getName())) {
+                throw new IllegalStateException(resource + " does not describe " + eventType.getName());
+            }
+            return schema;
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read " + resource, e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.auth_svc.event;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Writes events as Avro single-object encoded records: a 10-byte header carrying the schema
+ * fingerprint followed by the binary body, with no field names or formatted timestamps.
+ */
+public class AvroEventSerializer implements Serializer<Object> {
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    private final Map<Class<?>, BinaryMessageEncoder<Object>> encoders = new ConcurrentHashMap<>();
+    private final ThreadLocal<ByteArrayOutputStream> buffers =
+            ThreadLocal.withInitial(() -> new ByteArrayOutputStream(INITIAL_BUFFER_SIZE));
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        if (data == null) {
+            return null;
+        }
+        BinaryMessageEncoder<Object> encoder = encoders.computeIfAbsent(
+                data.getClass(),
+                type -> new BinaryMessageEncoder<>(AvroEventSchemas.MODEL, AvroEventSchemas.schemaFor(type)));
+        ByteArrayOutputStream buffer = buffers.get();
+        buffer.reset();
+        try {
+            encoder.encode(data, buffer);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException(
+                    "Cannot write " + data.getClass().getSimpleName() + " as Avro for " + topic, e);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,90 @@
+package com.auth_svc.event;
+
+import org.springframework.stereotype.Component;
+
+import com.auth_svc.auth.entity.Class;
+import com.auth_svc.auth.entity.School;
+import com.auth_svc.auth.entity.UserProfile;
+import com.auth_svc.auth.service.EventOutboxService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Change events for profiles, schools, classes and enrollments. Each event carries the full
+ * latest state of its record and is keyed by the record id, so the compacted topics always hold
+ * one current value per key and a consumer can rebuild a replica by reading them from the start.
+ *
+ * <p>Events go through the transactional outbox and must be published inside the transaction
+ * that made the change.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeEventProducer {
+    public static final String SCHOOL_CHANGES_TOPIC = "school.changes";
+    public static final String CLASS_CHANGES_TOPIC = "class.changes";
+    public static final String USER_PROFILE_CHANGES_TOPIC = "user-profile.changes";
+    public static final String ENROLLMENT_CHANGES_TOPIC = "class-enrollment.changes";
+
+    private final EventOutboxService eventOutboxService;
+
+    public void publishSchoolChanged(School school) {
+        SchoolChangedEvent event = SchoolChangedEvent.builder()
+                .id(school.getId())
+                .name(school.getName())
+                .address(school.getAddress())
+                .deleted(school.isDeleted())
+                .changedAt(System.currentTimeMillis())
+                .build();
+        eventOutboxService.enqueue(SCHOOL_CHANGES_TOPIC, String.valueOf(school.getId()), event);
+    }
+
+    public void publishClassChanged(Class classEntity) {
+        // Reading the id of a lazy association does not initialize it
+        ClassChangedEvent event = ClassChangedEvent.builder()
+                .id(classEntity.getId())
+                .schoolId(
+                        classEntity.getSchool() != null
+                                ? classEntity.getSchool().getId()
+                                : null)
+                .teacherId(
+                        classEntity.getTeacher() != null
+                                ? classEntity.getTeacher().getId()
+                                : null)
+                .name(classEntity.getName())
+                .grade(classEntity.getGrade())
+                .studentCount(classEntity.getStudentCount())
+                .deleted(classEntity.isDeleted())
+                .changedAt(System.currentTimeMillis())
+                .build();
+        eventOutboxService.enqueue(CLASS_CHANGES_TOPIC, String.valueOf(classEntity.getId()), event);
+    }
+
+    public void publishUserProfileChanged(UserProfile userProfile) {
+        UserProfileChangedEvent event = UserProfileChangedEvent.builder()
+                .id(userProfile.getId())
+                .accountId(userProfile.getAccountId())
+                .schoolId(
+                        userProfile.getSchool() != null
+                                ? userProfile.getSchool().getId()
+                                : null)
+                .fullName(userProfile.getFullName())
+                .dateOfBirth(userProfile.getDateOfBirth())
+                .avatarUrl(userProfile.getAvatarUrl())
+                .role(userProfile.getRole())
+                .teacherProofVerified(userProfile.isTeacherProofVerified())
+                .deleted(userProfile.isDeleted())
+                .changedAt(System.currentTimeMillis())
+                .build();
+        eventOutboxService.enqueue(USER_PROFILE_CHANGES_TOPIC, String.valueOf(userProfile.getId()), event);
+    }
+
+    public void publishEnrollmentChanged(Integer classId, Integer studentId, boolean enrolled) {
+        EnrollmentChangedEvent event = EnrollmentChangedEvent.builder()
+                .classId(classId)
+                .studentId(studentId)
+                .enrolled(enrolled)
+                .changedAt(System.currentTimeMillis())
+                .build();
+        eventOutboxService.enqueue(ENROLLMENT_CHANGES_TOPIC, classId + ":" + studentId, event);
+    }
+}
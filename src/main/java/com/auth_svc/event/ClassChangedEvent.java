@@ -0,0 +1,44 @@
+package com.auth_svc.event;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Latest state of a class, keyed by class id on a compacted topic.
+ * The enrollment password is never published.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ClassChangedEvent {
+    @JsonProperty("id")
+    private Integer id;
+
+    @JsonProperty("school_id")
+    private Integer schoolId;
+
+    @JsonProperty("teacher_id")
+    private Integer teacherId;
+
+    @JsonProperty("name")
+    private String name;
+
+    @JsonProperty("grade")
+    private Integer grade;
+
+    @JsonProperty("student_count")
+    private Integer studentCount;
+
+    @JsonProperty("deleted")
+    private boolean deleted;
+
+    @JsonProperty("changed_at")
+    private Long changedAt;
+}
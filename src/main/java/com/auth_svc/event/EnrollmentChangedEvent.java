@@ -0,0 +1,32 @@
+package com.auth_svc.event;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Membership of a student in a class, keyed by "classId:studentId" on a compacted topic.
+ * Unenrolling publishes {@code enrolled=false} for the same key.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EnrollmentChangedEvent {
+    @JsonProperty("class_id")
+    private Integer classId;
+
+    @JsonProperty("student_id")
+    private Integer studentId;
+
+    @JsonProperty("enrolled")
+    private boolean enrolled;
+
+    @JsonProperty("changed_at")
+    private Long changedAt;
+}
@@ -0,0 +1,333 @@
+package com.auth_svc.event;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Durable local spool for events sent straight to Kafka (not through the database outbox).
+ * When a send fails the event is appended to a memory-mapped, append-only journal and drained
+ * in order once the broker accepts records again. While the spool is non-empty, or a send has
+ * failed and the spool has not drained since, new events are appended behind the spooled ones
+ * instead of being sent, so requests do not wait on a broker that is known to be down.
+ *
+ * <p>Sends go through their own producer with a short {@code max.block.ms}
+ * ({@code app.kafka.spool.max-block-ms}), so before the first failure is known a request waits
+ * at most that long for metadata or buffer space, not the shared producer's five seconds.
+ *
+ * <p>Ordering is best effort. A send that fails asynchronously is reported only after its
+ * delivery timeout and is appended then, behind events that were sent after it and may already
+ * have been delivered. Only publish events that can be applied in any order: token.revoked
+ * carries a jti (set membership) or a valid-after watermark (merged with max).
+ *
+ * <p>Layout: a 32 byte header (magic, version, read position, write position) followed by
+ * records of {@code [int length][int crc32][JSON envelope]}. The journal has a fixed size;
+ * when it is full new events are dropped and counted. It is reset to empty whenever it has been
+ * fully drained. Dirty pages are forced to disk in batches rather than on every append.
+ *
+ * <p>The journal must live on a persistent volume ({@code app.kafka.spool.directory}); a
+ * temporary directory is wiped with the container and the spooled events with it.
+ */
+@Component
+@Slf4j
+public class KafkaEventSpool {
+    private static final int MAGIC = 0x4b53504c;
+    private static final int VERSION = 1;
+    private static final int READ_POSITION_OFFSET = 8;
+    private static final int WRITE_POSITION_OFFSET = 16;
+    private static final int HEADER_SIZE = 32;
+    private static final int RECORD_HEADER_SIZE = 8;
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final Path file;
+    private final long maxBytes;
+    private final long drainSendTimeoutMs;
+
+    private FileChannel channel;
+    private MappedByteBuffer journal;
+    private int readPosition;
+    private int writePosition;
+    private int depth;
+    private boolean dirty;
+    // Set when a send fails, cleared once the spool has fully drained
+    private volatile boolean brokerUnavailable;
+
+    private Counter spooled;
+    private Counter drained;
+    private Counter dropped;
+
+    public KafkaEventSpool(
+            ProducerFactory<String, Object> producerFactory,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.kafka.spool.directory}") String directory,
+            @Value("${app.kafka.spool.max-bytes:67108864}") long maxBytes,
+            @Value("${app.kafka.spool.max-block-ms:250}") long maxBlockMs,
+            @Value("${app.kafka.spool.drain-send-timeout-ms:5000}") long drainSendTimeoutMs) {
+        if (directory == null || directory.isBlank()) {
+            throw new IllegalStateException("app.kafka.spool.directory must point to a persistent directory");
+        }
+        this.kafkaTemplate =
+                new KafkaTemplate<>(producerFactory, Map.of(ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlockMs));
+        this.kafkaTemplate.setProducerListener(new KafkaSendMetricsListener(meterRegistry));
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.file = Path.of(directory, "kafka-events.spool");
+        this.maxBytes = Math.min(maxBytes, Integer.MAX_VALUE);
+        this.drainSendTimeoutMs = drainSendTimeoutMs;
+    }
+
+    @PostConstruct
+    void open() throws IOException {
+        if (file.toAbsolutePath()
+                .startsWith(Path.of(System.getProperty("java.io.tmpdir")).toAbsolutePath())) {
+            log.warn("Kafka spool {} is under the temporary directory and will not survive a restart", file);
+        }
+        Files.createDirectories(file.getParent());
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        journal = channel.map(FileChannel.MapMode.READ_WRITE, 0, maxBytes);
+
+        if (journal.getInt(0) == MAGIC && journal.getInt(4) == VERSION) {
+            readPosition = (int) journal.getLong(READ_POSITION_OFFSET);
+            writePosition = (int) journal.getLong(WRITE_POSITION_OFFSET);
+            if (readPosition < HEADER_SIZE || writePosition < readPosition || writePosition > maxBytes) {
+                log.error("Kafka spool header is corrupt, discarding {}", file);
+                reset();
+            }
+        } else {
+            journal.putInt(0, MAGIC);
+            journal.putInt(4, VERSION);
+            reset();
+        }
+        depth = countRecords();
+
+        spooled = Counter.builder("auth.kafka.spool.events")
+                .tag("result", "spooled")
+                .description("Events written to the local spool because Kafka was unavailable")
+                .register(meterRegistry);
+        drained = Counter.builder("auth.kafka.spool.events")
+                .tag("result", "drained")
+                .description("Spooled events delivered to Kafka")
+                .register(meterRegistry);
+        dropped = Counter.builder("auth.kafka.spool.events")
+                .tag("result", "dropped")
+                .description("Events lost because the spool was full")
+                .register(meterRegistry);
+        Gauge.builder("auth.kafka.spool.depth", this, KafkaEventSpool::depth)
+                .description("Events waiting in the local spool")
+                .register(meterRegistry);
+        Gauge.builder("auth.kafka.spool.bytes", this, KafkaEventSpool::pendingBytes)
+                .baseUnit("bytes")
+                .description("Bytes waiting in the local spool")
+                .register(meterRegistry);
+
+        if (depth > 0) {
+            log.warn("Kafka spool {} holds {} undelivered events", file, depth);
+        }
+    }
+
+    /**
+     * Sends the event, or appends it to the spool when earlier events are still waiting, a
+     * previous send has failed or this send fails.
+     */
+    public void publish(String topic, String key, Object event) {
+        if (brokerUnavailable || depth() > 0) {
+            append(topic, key, event);
+            return;
+        }
+
+        try {
+            kafkaTemplate.send(topic, key, event).whenComplete((result, ex) -> {
+                if (ex != null) {
+                    brokerUnavailable = true;
+                    append(topic, key, event);
+                }
+            });
+        } catch (Exception e) {
+            brokerUnavailable = true;
+            append(topic, key, event);
+        }
+    }
+
+    public synchronized int depth() {
+        return depth;
+    }
+
+    public synchronized long pendingBytes() {
+        return writePosition - readPosition;
+    }
+
+    @Scheduled(fixedDelayString = "${app.kafka.spool.drain-interval-ms:1000}")
+    public void drain() {
+        int delivered = 0;
+        while (true) {
+            SpooledEvent event;
+            int next;
+            synchronized (this) {
+                if (readPosition >= writePosition) {
+                    brokerUnavailable = false;
+                    break;
+                }
+                next = readPosition + RECORD_HEADER_SIZE + journal.getInt(readPosition);
+                event = readRecord(readPosition);
+                if (event == null) {
+                    log.error("Corrupt record in Kafka spool at offset {}, discarding the rest", readPosition);
+                    reset();
+                    break;
+                }
+            }
+
+            try {
+                Object payload = objectMapper.readValue(event.payload(), Class.forName(event.type()));
+                kafkaTemplate.send(event.topic(), event.key(), payload).get(drainSendTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (ClassNotFoundException | IOException e) {
+                log.error("Dropping unreadable spooled {} event: {}", event.topic(), e.getMessage());
+                dropped.increment();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                // Broker still unavailable; keep the event and try again on the next run
+                break;
+            }
+
+            synchronized (this) {
+                readPosition = next;
+                depth--;
+                if (readPosition >= writePosition) {
+                    reset();
+                } else {
+                    journal.putLong(READ_POSITION_OFFSET, readPosition);
+                    dirty = true;
+                }
+            }
+            delivered++;
+        }
+
+        if (delivered > 0) {
+            drained.increment(delivered);
+            log.info("Drained {} events from the Kafka spool, {} left", delivered, depth());
+        }
+    }
+
+    // Batches fsyncs: dirty pages are forced at most once per interval instead of on every append
+    @Scheduled(fixedDelayString = "${app.kafka.spool.fsync-interval-ms:200}")
+    public synchronized void flush() {
+        if (dirty) {
+            journal.force();
+            dirty = false;
+        }
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        flush();
+        channel.close();
+    }
+
+    private void append(String topic, String key, Object event) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(
+                    new SpooledEvent(topic, key, event.getClass().getName(), objectMapper.writeValueAsString(event)));
+        } catch (IOException e) {
+            log.error("Cannot serialize {} event for the Kafka spool: {}", topic, e.getMessage());
+            dropped.increment();
+            return;
+        }
+
+        synchronized (this) {
+            if (writePosition + RECORD_HEADER_SIZE + body.length > maxBytes) {
+                dropped.increment();
+                log.error("Kafka spool is full, dropping {} event with key {}", topic, key);
+                return;
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(body);
+            journal.putInt(writePosition, body.length);
+            journal.putInt(writePosition + 4, (int) crc.getValue());
+            journal.put(writePosition + RECORD_HEADER_SIZE, body);
+            writePosition += RECORD_HEADER_SIZE + body.length;
+            // The write position is published only after the record itself is in place
+            journal.putLong(WRITE_POSITION_OFFSET, writePosition);
+            depth++;
+            dirty = true;
+        }
+        spooled.increment();
+        log.warn("Kafka unavailable, spooled {} event with key {}", topic, key);
+    }
+
+    private SpooledEvent readRecord(int position) {
+        int length = journal.getInt(position);
+        if (length <= 0 || position + RECORD_HEADER_SIZE + length > writePosition) {
+            return null;
+        }
+
+        byte[] body = new byte[length];
+        journal.get(position + RECORD_HEADER_SIZE, body);
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        if ((int) crc.getValue() != journal.getInt(position + 4)) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(new String(body, StandardCharsets.UTF_8), SpooledEvent.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private int countRecords() {
+        int count = 0;
+        int position = readPosition;
+        while (position < writePosition) {
+            int length = journal.getInt(position);
+            if (length <= 0) {
+                break;
+            }
+            position += RECORD_HEADER_SIZE + length;
+            count++;
+        }
+        return count;
+    }
+
+    private void reset() {
+        readPosition = HEADER_SIZE;
+        writePosition = HEADER_SIZE;
+        depth = 0;
+        journal.putLong(READ_POSITION_OFFSET, readPosition);
+        journal.putLong(WRITE_POSITION_OFFSET, writePosition);
+        dirty = true;
+    }
+
+    record SpooledEvent(String topic, String key, String type, String payload) {}
+}
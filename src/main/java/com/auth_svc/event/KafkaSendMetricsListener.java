@@ -0,0 +1,54 @@
+package com.auth_svc.event;
+
+import java.time.Duration;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.springframework.kafka.support.ProducerListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Completion callback for every record sent through the shared KafkaTemplate: counts failures and
+ * records the time from send until the broker acknowledged the record, per topic.
+ */
+@Slf4j
+public class KafkaSendMetricsListener implements ProducerListener<String, Object> {
+
+    private final MeterRegistry meterRegistry;
+
+    public KafkaSendMetricsListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void onSuccess(ProducerRecord<String, Object> producerRecord, RecordMetadata recordMetadata) {
+        // The producer stamps CreateTime when the record is handed to send()
+        long latencyMillis = System.currentTimeMillis() - recordMetadata.timestamp();
+        Timer.builder("auth.kafka.send")
+                .tag("topic", producerRecord.topic())
+                .tag("result", "success")
+                .description("Time from send until the broker acknowledged the record")
+                .register(meterRegistry)
+                .record(Duration.ofMillis(Math.max(0, latencyMillis)));
+    }
+
+    @Override
+    public void onError(
+            ProducerRecord<String, Object> producerRecord, RecordMetadata recordMetadata, Exception exception) {
+        Counter.builder("auth.kafka.send.errors")
+                .tag("topic", producerRecord.topic())
+                .tag("exception", exception.getClass().getSimpleName())
+                .description("Records the broker did not acknowledge")
+                .register(meterRegistry)
+                .increment();
+        log.error(
+                "Failed to send record to {} with key {}: {}",
+                producerRecord.topic(),
+                producerRecord.key(),
+                exception.getMessage());
+    }
+}
@@ -0,0 +1,34 @@
+package com.auth_svc.event;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Latest state of a school, keyed by school id on a compacted topic.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SchoolChangedEvent {
+    @JsonProperty("id")
+    private Integer id;
+
+    @JsonProperty("name")
+    private String name;
+
+    @JsonProperty("address")
+    private String address;
+
+    @JsonProperty("deleted")
+    private boolean deleted;
+
+    @JsonProperty("changed_at")
+    private Long changedAt;
+}
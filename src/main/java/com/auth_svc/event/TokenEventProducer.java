@@ -0,0 +1,36 @@
+package com.auth_svc.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class TokenEventProducer {
+    public static final String TOKEN_REVOKED_TOPIC = "token.revoked";
+
+    private final KafkaEventSpool kafkaEventSpool;
+
+    /**
+     * Sends after the surrounding transaction commits, so other replicas never see a revocation
+     * that is not yet visible in the database. Events that cannot be sent wait in the local spool.
+     */
+    public void publishTokenRevokedEvent(TokenRevokedEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(event);
+                }
+            });
+        } else {
+            send(event);
+        }
+    }
+
+    private void send(TokenRevokedEvent event) {
+        kafkaEventSpool.publish(TOKEN_REVOKED_TOPIC, event.getUserId(), event);
+    }
+}
@@ -0,0 +1,45 @@
+package com.auth_svc.event;
+
+import java.time.Instant;
+import java.util.Date;
+
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import com.auth_svc.auth.service.TokenRevocationService;
+import com.auth_svc.auth.service.TokenWatermarkService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Applies revocations made on any replica (including this one) to the node-local revocation
+ * index and watermark cache. The database was already written by the publishing node.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationListener {
+
+    private final TokenRevocationService tokenRevocationService;
+    private final TokenWatermarkService tokenWatermarkService;
+
+    @KafkaListener(
+            topics = TokenEventProducer.TOKEN_REVOKED_TOPIC,
+            containerFactory = "tokenRevokedListenerContainerFactory")
+    public void onTokenRevoked(TokenRevokedEvent event) {
+        if (event == null) {
+            return;
+        }
+
+        if (event.getJti() != null && event.getExpiresAt() != null) {
+            tokenRevocationService.applyRevocation(event.getJti(), new Date(event.getExpiresAt()));
+        }
+
+        if (event.getUserId() != null && event.getValidAfter() != null) {
+            tokenWatermarkService.applyWatermark(event.getUserId(), Instant.ofEpochMilli(event.getValidAfter()));
+        }
+
+        log.debug("Applied token.revoked event: jti={}, userId={}", event.getJti(), event.getUserId());
+    }
+}
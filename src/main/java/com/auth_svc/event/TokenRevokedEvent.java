@@ -0,0 +1,32 @@
+package com.auth_svc.event;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Broadcast to every replica when a token (jti) or all sessions of a user (valid_after) are revoked.
+ * Timestamps are epoch millis to keep the payload small.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TokenRevokedEvent {
+    @JsonProperty("jti")
+    private String jti;
+
+    @JsonProperty("user_id")
+    private String userId;
+
+    @JsonProperty("expires_at")
+    private Long expiresAt;
+
+    @JsonProperty("valid_after")
+    private Long validAfter;
+}
@@ -1,26 +1,27 @@
 package com.auth_svc.event;
 
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
+import com.auth_svc.auth.service.EventOutboxService;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * User events go through the transactional outbox: they are stored with the user change and
+ * published by the relay after commit.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class UserEventProducer {
+    public static final String USER_REGISTERED_TOPIC = "user.registered";
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final EventOutboxService eventOutboxService;
 
     public void publishUserRegisteredEvent(UserRegisteredEvent event) {
-        try {
-            kafkaTemplate.send("user.registered", event);
+        eventOutboxService.enqueue(USER_REGISTERED_TOPIC, event.getUserId(), event);
 
-            log.info("Published user.registered event: userId={}, email={}", event.getUserId(), event.getEmail());
-        } catch (Exception e) {
-            log.error(
-                    "Failed to publish user.registered event for userId {}: {}", event.getUserId(), e.getMessage(), e);
-        }
+        log.info("Queued user.registered event: userId={}, email={}", event.getUserId(), event.getEmail());
     }
 }
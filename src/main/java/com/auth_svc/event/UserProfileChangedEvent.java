@@ -0,0 +1,52 @@
+package com.auth_svc.event;
+
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Latest state of a user profile, keyed by profile id on a compacted topic.
+ * The teacher proof document stays private; only its verification flag is published.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserProfileChangedEvent {
+    @JsonProperty("id")
+    private Integer id;
+
+    @JsonProperty("account_id")
+    private String accountId;
+
+    @JsonProperty("school_id")
+    private Integer schoolId;
+
+    @JsonProperty("full_name")
+    private String fullName;
+
+    @JsonProperty("date_of_birth")
+    private LocalDate dateOfBirth;
+
+    @JsonProperty("avatar_url")
+    private String avatarUrl;
+
+    @JsonProperty("role")
+    private String role;
+
+    @JsonProperty("teacher_proof_verified")
+    private boolean teacherProofVerified;
+
+    @JsonProperty("deleted")
+    private boolean deleted;
+
+    @JsonProperty("changed_at")
+    private Long changedAt;
+}
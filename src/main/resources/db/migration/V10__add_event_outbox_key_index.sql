@@ -0,0 +1,2 @@
+-- Lets the relay find the oldest outstanding row of each key without scanning the table
+CREATE INDEX IF NOT EXISTS idx_event_outbox_key ON event_outbox(topic, event_key, id);
@@ -0,0 +1,30 @@
+-- PostgreSQL refuses DETACH PARTITION ... CONCURRENTLY while the parent has a default partition,
+-- which left dropping an expired partition as the only option, under an ACCESS EXCLUSIVE lock on
+-- invalidated_token. The default partition is folded into daily partitions and removed; the purge
+-- job keeps app.revocation.partition-days-ahead partitions ready instead.
+DO $$
+DECLARE
+    d DATE;
+BEGIN
+    IF to_regclass('invalidated_token_default') IS NULL THEN
+        RETURN;
+    END IF;
+
+    ALTER TABLE invalidated_token DETACH PARTITION invalidated_token_default;
+
+    FOR d IN
+        SELECT expiry_time::date FROM invalidated_token_default
+        UNION
+        SELECT generate_series(CURRENT_DATE, CURRENT_DATE + 7, INTERVAL '1 day')::date
+    LOOP
+        EXECUTE format(
+                'CREATE TABLE IF NOT EXISTS invalidated_token_p%s PARTITION OF invalidated_token FOR VALUES FROM (%L) TO (%L)',
+                to_char(d, 'YYYYMMDD'), d, d + 1);
+    END LOOP;
+
+    INSERT INTO invalidated_token (id, expiry_time)
+    SELECT id, expiry_time FROM invalidated_token_default
+    ON CONFLICT DO NOTHING;
+
+    DROP TABLE invalidated_token_default;
+END $$;
@@ -0,0 +1,12 @@
+-- Key ring for JWT signing; keys are selected by the kid header
+CREATE TABLE IF NOT EXISTS jwt_signing_keys (
+    kid VARCHAR(100) PRIMARY KEY,
+    algorithm VARCHAR(20) NOT NULL,
+    secret TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    activated_at TIMESTAMP,
+    retired_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_jwt_signing_keys_status ON jwt_signing_keys(status);
@@ -0,0 +1,30 @@
+-- Store invalidated tokens in daily range partitions on expiry_time so expired tokens
+-- can be removed by dropping whole partitions (see TokenPurgeServiceImpl).
+-- The primary key must include the partition key; lookups by id still use its leading column.
+ALTER TABLE IF EXISTS invalidated_token RENAME TO invalidated_token_legacy;
+
+CREATE TABLE invalidated_token (
+    id VARCHAR(255) NOT NULL,
+    expiry_time TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id, expiry_time)
+) PARTITION BY RANGE (expiry_time);
+
+-- Catches rows outside the daily partitions; purged with DELETE
+CREATE TABLE invalidated_token_default PARTITION OF invalidated_token DEFAULT;
+
+-- Daily partitions around today; the purge job keeps creating them ahead of time
+DO $$
+DECLARE
+    d DATE;
+BEGIN
+    FOR d IN SELECT generate_series(CURRENT_DATE - 1, CURRENT_DATE + 3, INTERVAL '1 day')::date LOOP
+        EXECUTE format(
+                'CREATE TABLE IF NOT EXISTS invalidated_token_p%s PARTITION OF invalidated_token FOR VALUES FROM (%L) TO (%L)',
+                to_char(d, 'YYYYMMDD'), d, d + 1);
+    END LOOP;
+END $$;
+
+INSERT INTO invalidated_token (id, expiry_time)
+SELECT id, expiry_time FROM invalidated_token_legacy WHERE expiry_time IS NOT NULL;
+
+DROP TABLE IF EXISTS invalidated_token_legacy;
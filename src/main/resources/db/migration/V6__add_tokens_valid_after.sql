@@ -0,0 +1,2 @@
+-- Per-user revocation watermark: tokens issued before this instant are rejected
+ALTER TABLE users ADD COLUMN IF NOT EXISTS tokens_valid_after TIMESTAMP WITH TIME ZONE;
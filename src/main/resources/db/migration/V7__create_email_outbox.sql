@@ -0,0 +1,15 @@
+-- Outgoing emails, written in the same transaction as the change that triggers them
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id VARCHAR(255) PRIMARY KEY,
+    email_type VARCHAR(50) NOT NULL,
+    recipient VARCHAR(255) NOT NULL,
+    params TEXT,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL,
+    sent_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_email_outbox_status_next_attempt ON email_outbox(status, next_attempt_at);
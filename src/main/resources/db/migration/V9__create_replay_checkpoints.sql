@@ -0,0 +1,12 @@
+-- Progress of admin-triggered Kafka replays, so a stopped or failed replay resumes where it left off
+CREATE TABLE IF NOT EXISTS replay_checkpoints (
+    job_name VARCHAR(100) PRIMARY KEY,
+    last_key VARCHAR(255),
+    processed BIGINT NOT NULL DEFAULT 0,
+    status VARCHAR(20) NOT NULL,
+    owner VARCHAR(255),
+    started_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    completed_at TIMESTAMP,
+    last_error TEXT
+);
@@ -0,0 +1,151 @@
+package com.auth_svc.auth.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import com.auth_svc.auth.entity.Class;
+import com.auth_svc.auth.entity.ClassStudent;
+import com.auth_svc.auth.entity.School;
+import com.auth_svc.auth.entity.UserProfile;
+
+/**
+ * Class and enrollment listings must cost the same number of queries whatever the page size:
+ * every row below has its own school, teacher and student, so lazy loading would add one query
+ * per row.
+ */
+@DataJpaTest(
+        properties = {
+            "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            "spring.jpa.properties.hibernate.generate_statistics=true"
+        })
+class ClassListingQueryCountTest {
+
+    private static final int CLASSES = 30;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    ClassRepository classRepository;
+
+    @Autowired
+    ClassStudentRepository classStudentRepository;
+
+    Statistics statistics;
+    School firstSchool;
+    Class firstClass;
+    UserProfile firstStudent;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < CLASSES; i++) {
+            School school = persist(School.builder()
+                    .name("School " + i)
+                    .address(i + " Main Street")
+                    .build());
+            UserProfile teacher = persist(UserProfile.builder()
+                    .accountId("teacher-" + i)
+                    .fullName("Teacher " + i)
+                    .school(school)
+                    .build());
+            Class classEntity = persist(Class.builder()
+                    .name("Class " + i)
+                    .grade(5)
+                    .school(i % 2 == 0 ? firstSchool(school) : school)
+                    .teacher(teacher)
+                    .build());
+            UserProfile student = persist(UserProfile.builder()
+                    .accountId("student-" + i)
+                    .fullName("Student " + i)
+                    .build());
+            if (firstClass == null) {
+                firstClass = classEntity;
+                firstStudent = student;
+            }
+            persist(ClassStudent.builder()
+                    .classEntity(firstClass)
+                    .student(student)
+                    .build());
+            persist(ClassStudent.builder()
+                    .classEntity(classEntity)
+                    .student(firstStudent)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void classPagesCostOneSelectAndOneCount() {
+        for (int size : new int[] {5, 10}) {
+            PageRequest page = PageRequest.of(0, size);
+            assertEquals(2, queriesFor(() -> classRepository.findAll(page)), "findAll, page size " + size);
+            assertEquals(2, queriesFor(() -> classRepository.findByGrade(5, page)), "findByGrade, page size " + size);
+            assertEquals(
+                    2,
+                    queriesFor(() -> classRepository.findBySchoolId(firstSchool.getId(), page)),
+                    "findBySchoolId, page size " + size);
+            assertEquals(
+                    2,
+                    queriesFor(() -> classRepository.findByNameContainingIgnoreCase("Class", page)),
+                    "findByNameContainingIgnoreCase, page size " + size);
+        }
+    }
+
+    @Test
+    void enrollmentListingsCostOneQuery() {
+        assertEquals(1, queriesFor(() -> classStudentRepository.findByClassEntityId(firstClass.getId())));
+        assertEquals(1, queriesFor(() -> classStudentRepository.findByStudentId(firstStudent.getId())));
+        assertEquals(1, queriesFor(() -> classStudentRepository.findAll()));
+    }
+
+    // Runs the finder on an empty persistence context and reads what the responses show
+    private long queriesFor(Supplier<?> finder) {
+        entityManager.clear();
+        statistics.clear();
+
+        Object result = finder.get();
+        List<?> rows = result instanceof Page<?> page ? page.getContent() : (List<?>) result;
+        for (Object row : rows) {
+            if (row instanceof Class classEntity) {
+                classEntity.getSchool().getName();
+                classEntity.getTeacher().getFullName();
+            } else if (row instanceof ClassStudent classStudent) {
+                classStudent.getClassEntity().getName();
+                classStudent.getStudent().getFullName();
+            }
+        }
+        return statistics.getPrepareStatementCount();
+    }
+
+    private School firstSchool(School school) {
+        if (firstSchool == null) {
+            firstSchool = school;
+        }
+        return firstSchool;
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
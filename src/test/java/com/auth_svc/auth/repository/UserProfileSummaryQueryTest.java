@@ -0,0 +1,124 @@
+package com.auth_svc.auth.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.auth_svc.auth.entity.School;
+import com.auth_svc.auth.entity.UserProfile;
+import com.auth_svc.auth.repository.projection.UserProfileSummary;
+
+/**
+ * The summary listings select a DTO through a constructor expression with a hand-written count
+ * query, so both halves are checked here: the rows on the page (including the joined school name
+ * and profiles without a school) and the total, with soft-deleted profiles left out of each.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class UserProfileSummaryQueryTest {
+
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 2, Sort.by("id"));
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    UserProfileRepository userProfileRepository;
+
+    School north;
+    UserProfile verifiedTeacher;
+    UserProfile pendingTeacher;
+    UserProfile student;
+    UserProfile unassignedStudent;
+
+    @BeforeEach
+    void setUp() {
+        north = persist(School.builder().name("North").address("1 North Road").build());
+        School south =
+                persist(School.builder().name("South").address("2 South Road").build());
+
+        verifiedTeacher = persist(profile("teacher-1", north, "TEACHER", "proof-1", true));
+        pendingTeacher = persist(profile("teacher-2", north, "TEACHER", "proof-2", false));
+        student = persist(profile("student-1", south, "STUDENT", null, false));
+        unassignedStudent = persist(profile("student-2", null, "STUDENT", null, false));
+
+        UserProfile deletedTeacher = persist(profile("teacher-3", north, "TEACHER", "proof-3", true));
+        deletedTeacher.softDelete();
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void allSummariesSkipDeletedProfilesAndKeepThoseWithoutSchool() {
+        Page<UserProfileSummary> page = userProfileRepository.findAllSummaries(FIRST_PAGE);
+        assertPage(page, 4, verifiedTeacher, pendingTeacher);
+        assertEquals("North", page.getContent().get(0).schoolName());
+
+        Page<UserProfileSummary> last = userProfileRepository.findAllSummaries(FIRST_PAGE.next());
+        assertPage(last, 4, student, unassignedStudent);
+        assertEquals("South", last.getContent().get(0).schoolName());
+        assertNull(last.getContent().get(1).schoolId());
+        assertNull(last.getContent().get(1).schoolName());
+    }
+
+    @Test
+    void filteredSummariesMatchTheirConditions() {
+        assertPage(
+                userProfileRepository.findSummariesBySchoolId(north.getId(), FIRST_PAGE),
+                2,
+                verifiedTeacher,
+                pendingTeacher);
+        assertPage(userProfileRepository.findSummariesByRole("STUDENT", FIRST_PAGE), 2, student, unassignedStudent);
+        assertPage(
+                userProfileRepository.findSummariesBySchoolIdAndRole(north.getId(), "TEACHER", FIRST_PAGE),
+                2,
+                verifiedTeacher,
+                pendingTeacher);
+        assertPage(userProfileRepository.findSummariesWithTeacherProof(FIRST_PAGE), 2, verifiedTeacher, pendingTeacher);
+        assertPage(userProfileRepository.findSummariesByTeacherProofVerified(true, FIRST_PAGE), 1, verifiedTeacher);
+        assertPage(
+                userProfileRepository.findSummariesByTeacherProofVerified(false, PageRequest.of(1, 2, Sort.by("id"))),
+                3,
+                unassignedStudent);
+    }
+
+    @Test
+    void entityFindAllSkipsDeletedProfiles() {
+        assertEquals(4, userProfileRepository.findAll(FIRST_PAGE).getTotalElements());
+    }
+
+    private static void assertPage(Page<UserProfileSummary> page, long total, UserProfile... expected) {
+        assertEquals(total, page.getTotalElements());
+        assertEquals(
+                List.of(expected).stream().map(UserProfile::getId).toList(),
+                page.getContent().stream().map(UserProfileSummary::id).toList());
+    }
+
+    private static UserProfile profile(
+            String accountId, School school, String role, String teacherProofUrl, boolean teacherProofVerified) {
+        return UserProfile.builder()
+                .accountId(accountId)
+                .fullName(accountId)
+                .school(school)
+                .role(role)
+                .teacherProofUrl(teacherProofUrl)
+                .teacherProofVerified(teacherProofVerified)
+                .build();
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,162 @@
+package com.auth_svc.auth.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.auth_svc.auth.dto.request.UserCreationRequest;
+import com.auth_svc.auth.dto.response.UserResponse;
+import com.auth_svc.auth.entity.User;
+import com.auth_svc.auth.exception.AppException;
+import com.auth_svc.auth.exception.ErrorCode;
+import com.auth_svc.auth.repository.RoleRepository;
+import com.auth_svc.auth.repository.UserProfileRepository;
+import com.auth_svc.auth.repository.UserRepository;
+import com.auth_svc.auth.service.EmailService;
+import com.auth_svc.auth.service.PasswordHashingService;
+import com.auth_svc.auth.service.RoleCacheService;
+import com.auth_svc.event.ChangeEventProducer;
+import com.auth_svc.event.UserEventProducer;
+
+/**
+ * Registration must not hold a database connection (an open transaction) while the password is
+ * hashed. A recording transaction manager and the mocks log begin, hash, writes and commit into
+ * one sequence, and the test asserts their order rather than elapsed time.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserServiceImplRegistrationTest {
+
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    RoleRepository roleRepository;
+
+    @Mock
+    UserProfileRepository userProfileRepository;
+
+    @Mock
+    PasswordHashingService passwordHashingService;
+
+    @Mock
+    UserEventProducer userEventProducer;
+
+    @Mock
+    ChangeEventProducer changeEventProducer;
+
+    @Mock
+    EmailService emailService;
+
+    @Mock
+    RoleCacheService roleCacheService;
+
+    RecordingTransactionManager transactionManager;
+    UserServiceImpl userService;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = new RecordingTransactionManager();
+        userService = new UserServiceImpl(
+                userRepository,
+                roleRepository,
+                userProfileRepository,
+                passwordHashingService,
+                userEventProducer,
+                changeEventProducer,
+                emailService,
+                new TransactionTemplate(transactionManager),
+                roleCacheService);
+
+        when(passwordHashingService.encode(anyString())).thenAnswer(invocation -> {
+            transactionManager.events.add("hash");
+            return "{bcrypt}hash";
+        });
+    }
+
+    @Test
+    void connectionIsOnlyHeldForTheWrites() {
+        when(userRepository.existsByEmail("new@school.edu")).thenReturn(false);
+        when(roleRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> {
+            transactionManager.events.add("save");
+            User user = invocation.getArgument(0);
+            user.setId("user-1");
+            return user;
+        });
+        doAnswer(invocation -> transactionManager.events.add("email"))
+                .when(emailService)
+                .sendVerificationEmail(any(), any(), any());
+        doAnswer(invocation -> transactionManager.events.add("event"))
+                .when(userEventProducer)
+                .publishUserRegisteredEvent(any());
+
+        UserResponse response = userService.createUser(request("new@school.edu"));
+
+        assertEquals("user-1", response.getId());
+        // Hashing finishes before the transaction begins; the outbox rows commit with the user
+        assertEquals(List.of("hash", "begin", "save", "email", "event", "commit"), transactionManager.events);
+    }
+
+    @Test
+    void duplicateEmailRollsBackWithoutSideEffects() {
+        when(userRepository.existsByEmail("taken@school.edu")).thenReturn(true);
+
+        AppException exception =
+                assertThrows(AppException.class, () -> userService.createUser(request("taken@school.edu")));
+
+        assertEquals(ErrorCode.USER_EXISTED, exception.getErrorCode());
+        assertEquals(List.of("hash", "begin", "rollback"), transactionManager.events);
+        verify(userRepository, never()).saveAndFlush(any());
+        verify(emailService, never()).sendVerificationEmail(any(), any(), any());
+        verify(userEventProducer, never()).publishUserRegisteredEvent(any());
+    }
+
+    private static UserCreationRequest request(String email) {
+        return UserCreationRequest.builder()
+                .username("student")
+                .password("secret-password")
+                .email(email)
+                .build();
+    }
+
+    // Stands in for JpaTransactionManager, which holds a pooled connection from begin to commit
+    static class RecordingTransactionManager implements PlatformTransactionManager {
+        final List<String> events = new ArrayList<>();
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            events.add("begin");
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            events.add("commit");
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            events.add("rollback");
+        }
+    }
+}
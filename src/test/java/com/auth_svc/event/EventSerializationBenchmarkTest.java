@@ -0,0 +1,155 @@
+package com.auth_svc.event;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import com.auth_svc.auth.configuration.JacksonConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Payload size and serialization throughput of the Avro encoding against the JsonSerializer.
+ * The round trip always runs; the benchmark only when asked for:
+ *
+ * <pre>
+ * mvn test -Dtest=EventSerializationBenchmarkTest -Devent.benchmark=true
+ * </pre>
+ */
+class EventSerializationBenchmarkTest {
+
+    private static final String TOPIC = "benchmark";
+    private static final int EVENTS = Integer.getInteger("event.benchmark.events", 2_000_000);
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    @Test
+    void avroRoundTripsEveryEvent() {
+        AvroEventSerializer serializer = new AvroEventSerializer();
+        for (Object event : sampleEvents(1)) {
+            @SuppressWarnings("unchecked")
+            Class<Object> type = (Class<Object>) event.getClass();
+            Deserializer<Object> deserializer =
+                    new AvroEventDeserializer<>(type, new JsonDeserializer<>(type, objectMapper, false));
+
+            assertEquals(event, deserializer.deserialize(TOPIC, serializer.serialize(TOPIC, event)));
+        }
+    }
+
+    @Test
+    void avroDeserializerFallsBackToJson() {
+        TokenRevokedEvent event =
+                TokenRevokedEvent.builder().jti("jti").expiresAt(1L).build();
+        byte[] json = new JsonSerializer<TokenRevokedEvent>(objectMapper).serialize(TOPIC, event);
+        Deserializer<TokenRevokedEvent> deserializer = new AvroEventDeserializer<>(
+                TokenRevokedEvent.class, new JsonDeserializer<>(TokenRevokedEvent.class, objectMapper, false));
+
+        assertEquals(event, deserializer.deserialize(TOPIC, json));
+        assertArrayEquals(
+                new AvroEventSerializer().serialize(TOPIC, event),
+                new AvroEventSerializer().serialize(TOPIC, deserializer.deserialize(TOPIC, json)));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "event.benchmark", matches = "true")
+    void avroAgainstJson() {
+        Serializer<Object> json = new JsonSerializer<>(objectMapper);
+        Serializer<Object> avro = new AvroEventSerializer();
+
+        for (Object event : sampleEvents(1)) {
+            System.out.printf(
+                    "%-24s json %4d bytes, avro %4d bytes%n",
+                    event.getClass().getSimpleName(),
+                    json.serialize(TOPIC, event).length,
+                    avro.serialize(TOPIC, event).length);
+        }
+
+        List<Object> events = sampleEvents(1_000);
+        // Warm up both paths before measuring
+        run(json, events, EVENTS / 10);
+        run(avro, events, EVENTS / 10);
+
+        double jsonRate = run(json, events, EVENTS);
+        double avroRate = run(avro, events, EVENTS);
+        System.out.printf(
+                "serialization: json %.0f events/s, avro %.0f events/s (%.1fx)%n",
+                jsonRate, avroRate, avroRate / jsonRate);
+    }
+
+    private static double run(Serializer<Object> serializer, List<Object> events, int count) {
+        long bytes = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            bytes += serializer.serialize(TOPIC, events.get(i % events.size())).length;
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        // Keeps the loop from being optimized away
+        if (bytes == 0) {
+            throw new IllegalStateException();
+        }
+        return count / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    private static List<Object> sampleEvents(int perType) {
+        List<Object> events = new ArrayList<>(perType * 6);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < perType; i++) {
+            String userId = UUID.randomUUID().toString();
+            events.add(UserRegisteredEvent.builder()
+                    .userId(userId)
+                    .email("user" + i + "@school.edu")
+                    .username("user" + i)
+                    // Avro keeps millisecond precision
+                    .timestamp(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS))
+                    .build());
+            events.add(TokenRevokedEvent.builder()
+                    .jti(UUID.randomUUID().toString())
+                    .userId(userId)
+                    .expiresAt(now + 3_600_000)
+                    .build());
+            events.add(SchoolChangedEvent.builder()
+                    .id(i)
+                    .name("School " + i)
+                    .address(i + " Main Street")
+                    .changedAt(now)
+                    .build());
+            events.add(ClassChangedEvent.builder()
+                    .id(i)
+                    .schoolId(i % 50)
+                    .teacherId(i % 300)
+                    .name("Class " + i)
+                    .grade(i % 12 + 1)
+                    .studentCount(30)
+                    .changedAt(now)
+                    .build());
+            events.add(UserProfileChangedEvent.builder()
+                    .id(i)
+                    .accountId(userId)
+                    .schoolId(i % 50)
+                    .fullName("Student " + i)
+                    .dateOfBirth(LocalDate.of(2010, 1, 1).plusDays(i % 365))
+                    .role("STUDENT")
+                    .changedAt(now)
+                    .build());
+            events.add(EnrollmentChangedEvent.builder()
+                    .classId(i)
+                    .studentId(i * 7)
+                    .enrolled(true)
+                    .changedAt(now)
+                    .build());
+        }
+        return events;
+    }
+}
@@ -0,0 +1,97 @@
+package com.auth_svc.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import com.auth_svc.auth.configuration.JacksonConfig;
+import com.auth_svc.auth.configuration.KafkaProducerConfig;
+
+/**
+ * Throughput of the tuned producer profile against a real broker, compared with the previous
+ * default settings. Run with a local single-node Kafka:
+ *
+ * <pre>
+ * mvn test -Dtest=UserEventProducerBenchmarkTest -Dkafka.benchmark.bootstrap-servers=localhost:9094
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "kafka.benchmark.bootstrap-servers", matches = ".+")
+class UserEventProducerBenchmarkTest {
+
+    private static final String TOPIC = "user.registered.benchmark";
+    private static final int EVENTS = Integer.getInteger("kafka.benchmark.events", 200_000);
+    private static final int USERS = 10_000;
+
+    @Test
+    void tunedProfileThroughput() throws Exception {
+        Map<String, Object> baseline = baseProperties();
+        Map<String, Object> tuned = KafkaProducerConfig.tuned(baseProperties());
+
+        // Warm up the broker connection and topic metadata before measuring
+        run(tuned, EVENTS / 10);
+
+        double baselineRate = run(baseline, EVENTS);
+        double tunedRate = run(tuned, EVENTS);
+
+        System.out.printf(
+                "user.registered producer: baseline %.0f events/s, tuned %.0f events/s (%.1fx)%n",
+                baselineRate, tunedRate, tunedRate / baselineRate);
+    }
+
+    private double run(Map<String, Object> properties, int events) throws Exception {
+        String[] userIds = new String[USERS];
+        for (int i = 0; i < USERS; i++) {
+            userIds[i] = UUID.randomUUID().toString();
+        }
+
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch acknowledged = new CountDownLatch(events);
+        JsonSerializer<Object> valueSerializer = new JsonSerializer<>(new JacksonConfig().objectMapper());
+
+        long start = System.nanoTime();
+        try (KafkaProducer<String, Object> producer =
+                new KafkaProducer<>(properties, new StringSerializer(), valueSerializer)) {
+            for (int i = 0; i < events; i++) {
+                String userId = userIds[i % USERS];
+                UserRegisteredEvent event = UserRegisteredEvent.builder()
+                        .userId(userId)
+                        .email("user" + i + "@school.edu")
+                        .username("user" + i)
+                        .timestamp(LocalDateTime.now())
+                        .build();
+                producer.send(new ProducerRecord<>(TOPIC, userId, event), (metadata, exception) -> {
+                    if (exception != null) {
+                        failures.incrementAndGet();
+                    }
+                    acknowledged.countDown();
+                });
+            }
+            acknowledged.await(5, TimeUnit.MINUTES);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        assertEquals(0, failures.get());
+        return events / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    private static Map<String, Object> baseProperties() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, System.getProperty("kafka.benchmark.bootstrap-servers"));
+        return properties;
+    }
+}